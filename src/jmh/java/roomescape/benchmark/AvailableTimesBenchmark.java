@@ -0,0 +1,83 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import roomescape.dao.TimeDao;
+import roomescape.dataset.DatasetGenerator;
+import roomescape.dataset.DatasetSpec;
+import roomescape.domain.AvailableTime;
+import roomescape.domain.ReservationTime;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AvailableTimesBenchmark {
+    private static final RowMapper<ReservationTime> TIME_ROW_MAPPER = (resultSet, rowNum) -> new ReservationTime(
+            resultSet.getLong("id"),
+            resultSet.getObject("start_at", LocalTime.class));
+
+    @Param({"28", "120", "240"})
+    private int times;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TimeDao timeDao;
+    private LocalDate date;
+    private Long themeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        DatasetSpec spec = new DatasetSpec(42L, 1_000, 20, times, LocalDate.of(2024, 1, 1), 30, 0.6, 1.0, 1.5);
+        new DatasetGenerator(jdbcTemplate).generate(spec);
+        timeDao = new TimeDao(jdbcTemplate);
+        date = spec.startDate().plusDays(spec.days() / 2);
+        themeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM theme", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<AvailableTime> readAvailableTimes_oneQuery() {
+        return timeDao.readAvailableTimes(date, themeId);
+    }
+
+    @Benchmark
+    public List<AvailableTime> readAvailableTimes_twoQueries() {
+        List<ReservationTime> allTime = jdbcTemplate.query(
+                "SELECT id, start_at FROM reservation_time", TIME_ROW_MAPPER);
+        List<ReservationTime> alreadyBookedTime = jdbcTemplate.query(
+                "SELECT id, start_at FROM reservation_time WHERE id IN (SELECT time_id FROM reservation WHERE date = ? AND theme_id = ?)",
+                TIME_ROW_MAPPER, date, themeId);
+        return allTime.stream()
+                .map(time -> new AvailableTime(time, alreadyBookedTime.contains(time)))
+                .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import roomescape.RoomescapeApplication;
+import roomescape.dao.ReservationDao;
+import roomescape.dataset.DatasetGenerator;
+import roomescape.dataset.DatasetSpec;
+import roomescape.dto.request.ReservationAdminCreateRequest;
+import roomescape.service.PopularThemeRanking;
+import roomescape.service.ReservationService;
+import roomescape.service.ThemeService;
+import roomescape.service.TimeService;
+
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext applicationContext;
+    private DatasetSpec spec;
+    private List<Long> memberIds;
+    private List<Long> timeIds;
+    private List<Long> themeIds;
+    private LocalDate firstFreeDate;
+    private ReservationDao reservationDao;
+    private ReservationService reservationService;
+    private TimeService timeService;
+    private ThemeService themeService;
+    private PopularThemeRanking popularThemeRanking;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        spec = DatasetSpec.from(datasetProperties());
+        new DatasetGenerator(jdbcTemplate).generate(spec);
+
+        memberIds = jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class);
+        timeIds = jdbcTemplate.queryForList("SELECT id FROM reservation_time ORDER BY start_at", Long.class);
+        themeIds = jdbcTemplate.queryForList("SELECT id FROM theme ORDER BY id", Long.class);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        firstFreeDate = spec.endDate().isBefore(tomorrow) ? tomorrow : spec.endDate().plusDays(1);
+
+        reservationDao = applicationContext.getBean(ReservationDao.class);
+        reservationService = applicationContext.getBean(ReservationService.class);
+        timeService = applicationContext.getBean(TimeService.class);
+        themeService = applicationContext.getBean(ThemeService.class);
+        popularThemeRanking = applicationContext.getBean(PopularThemeRanking.class);
+    }
+
+    private Properties datasetProperties() {
+        Properties defaults = new Properties();
+        defaults.setProperty("dataset.start-date", LocalDate.now().minusDays(DatasetSpec.large(0L).days() - 1L).toString());
+        Properties properties = new Properties(defaults);
+        properties.putAll(System.getProperties());
+        return properties;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    public ReservationDao reservationDao() {
+        return reservationDao;
+    }
+
+    public ReservationService reservationService() {
+        return reservationService;
+    }
+
+    public TimeService timeService() {
+        return timeService;
+    }
+
+    public ThemeService themeService() {
+        return themeService;
+    }
+
+    public PopularThemeRanking popularThemeRanking() {
+        return popularThemeRanking;
+    }
+
+    public LocalDate middleDate() {
+        return spec.startDate().plusDays(spec.days() / 2);
+    }
+
+    public Long popularThemeId() {
+        return themeIds.get(0);
+    }
+
+    public Long memberId() {
+        return memberIds.get(memberIds.size() / 2);
+    }
+
+    public ReservationAdminCreateRequest nextFreeReservation() {
+        long index = sequence.getAndIncrement();
+        long slotsPerDay = (long) timeIds.size() * themeIds.size();
+        return new ReservationAdminCreateRequest(
+                firstFreeDate.plusDays(index / slotsPerDay),
+                memberIds.get((int) (index % memberIds.size())),
+                timeIds.get((int) (index % timeIds.size())),
+                themeIds.get((int) (index / timeIds.size() % themeIds.size())));
+    }
+}
@@ -0,0 +1,39 @@
+package roomescape.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import roomescape.domain.Reservation;
+import roomescape.dto.request.ReservationCursor;
+import roomescape.dto.request.ReservationDetailRequest;
+import roomescape.dto.request.ReservationPageRequest;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DaoBenchmark {
+    @Benchmark
+    public List<Reservation> readReservations_themeWeek(BenchmarkContext context) {
+        ReservationPageRequest request = new ReservationPageRequest(context.popularThemeId(),
+                context.middleDate(), context.middleDate().plusDays(6), null, ReservationPageRequest.DEFAULT_SIZE);
+        return context.reservationDao().readReservations(request, request.size() + 1);
+    }
+
+    @Benchmark
+    public List<Reservation> readReservations_cursorPage(BenchmarkContext context) {
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null,
+                new ReservationCursor(context.middleDate(), 0L, 0L), ReservationPageRequest.DEFAULT_SIZE);
+        return context.reservationDao().readReservations(request, request.size() + 1);
+    }
+
+    @Benchmark
+    public List<Reservation> readReservationsByDetails(BenchmarkContext context) {
+        ReservationDetailRequest request = new ReservationDetailRequest(context.popularThemeId(), context.memberId(),
+                context.middleDate().minusDays(90), context.middleDate().plusDays(90));
+        return context.reservationDao().readReservationsByDetails(request);
+    }
+}
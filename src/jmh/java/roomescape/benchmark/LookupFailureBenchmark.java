@@ -0,0 +1,100 @@
+package roomescape.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import roomescape.dao.MemberDao;
+import roomescape.domain.Member;
+import roomescape.domain.Role;
+import roomescape.domain.exception.AuthFailException;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LookupFailureBenchmark {
+    private static final String SQL = "SELECT id, name, email, password, role FROM member WHERE email = ? AND password = ?";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private MemberDao memberDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        memberDao = new MemberDao(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Object failedLogin_before() {
+        try {
+            Optional<Member> member = readByCatchingEmptyResult("nobody@naver.com", "1111");
+            return member.orElseThrow(StackfulAuthFailException::new);
+        } catch (StackfulAuthFailException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object failedLogin_after() {
+        try {
+            return memberDao.readMemberByEmailAndPassword("nobody@naver.com", "1111")
+                    .orElseThrow(AuthFailException::new);
+        } catch (AuthFailException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public Object throwOnly_before() {
+        return new StackfulAuthFailException();
+    }
+
+    @Benchmark
+    public Object throwOnly_after() {
+        return new AuthFailException();
+    }
+
+    private Optional<Member> readByCatchingEmptyResult(String email, String password) {
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(SQL, (resultSet, rowNum) -> new Member(
+                    resultSet.getLong("id"),
+                    resultSet.getString("name"),
+                    resultSet.getString("email"),
+                    resultSet.getString("password"),
+                    Role.valueOf(resultSet.getString("role"))), email, password));
+        } catch (EmptyResultDataAccessException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static class StackfulAuthFailException extends RuntimeException {
+        private StackfulAuthFailException() {
+            super("로그인 정보가 잘못되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package roomescape.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.stereotype.Repository;
+
+import roomescape.config.metrics.DaoMetricsAdvisor;
+import roomescape.config.metrics.LatencyMetrics;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private final LatencyMetrics latencyMetrics = new LatencyMetrics();
+    private final Target direct = new Target();
+    private Target instrumented;
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProxyFactory proxyFactory = new ProxyFactory(new Target());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DaoMetricsAdvisor(latencyMetrics));
+        instrumented = (Target) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.next(value++);
+    }
+
+    @Benchmark
+    public long instrumentedCall() {
+        return instrumented.next(value++);
+    }
+
+    @Benchmark
+    public void recordLatency() {
+        latencyMetrics.record("Target.next", LatencyMetrics.SUCCESS, value++ & 0xFFFF);
+    }
+
+    @Repository
+    public static class Target {
+        public long next(long value) {
+            return value * 31 + 7;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import roomescape.dao.ReservationDao;
+import roomescape.dataset.DatasetGenerator;
+import roomescape.dataset.DatasetSpec;
+import roomescape.domain.Reservation;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.NormalizedReservationListResponse;
+import roomescape.dto.response.ReservationPageResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReservationFormatBenchmark {
+    private static final int ROWS = 5_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+    private List<Reservation> reservations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            new DatasetGenerator(jdbcTemplate).generate(
+                    new DatasetSpec(42L, 10_000, 10, 28, LocalDate.of(2024, 1, 1), 60, 0.6, 1.0, 1.5));
+            ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, ReservationPageRequest.MAX_SIZE);
+            reservations = new ReservationDao(jdbcTemplate).readReservations(request, ROWS);
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @Benchmark
+    public byte[] writeNested(PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(objectMapper.writeValueAsBytes(ReservationPageResponse.of(reservations, null)));
+    }
+
+    @Benchmark
+    public byte[] writeNormalized(PayloadSize payloadSize) throws JsonProcessingException {
+        return payloadSize.record(objectMapper.writeValueAsBytes(NormalizedReservationListResponse.of(reservations, null)));
+    }
+}
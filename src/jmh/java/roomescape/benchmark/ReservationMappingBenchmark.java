@@ -0,0 +1,103 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import roomescape.config.sql.SqlStatementListener;
+import roomescape.config.sql.SqlTracingDataSource;
+import roomescape.dao.ReservationDao;
+import roomescape.dataset.DatasetGenerator;
+import roomescape.dataset.DatasetSpec;
+import roomescape.domain.Member;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Role;
+import roomescape.domain.Theme;
+import roomescape.dto.request.ReservationPageRequest;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ReservationMappingBenchmark {
+    private static final int ROWS = 1_000;
+    private static final RowMapper<Reservation> PER_ROW_MAPPER = (resultSet, rowNum) -> new Reservation(
+            resultSet.getLong("id"),
+            resultSet.getObject("date", LocalDate.class),
+            new Member(
+                    resultSet.getLong("member_id"),
+                    resultSet.getString("member_name"),
+                    resultSet.getString("email"),
+                    null,
+                    Role.valueOf(resultSet.getString("role"))),
+            new ReservationTime(
+                    resultSet.getLong("time_id"),
+                    resultSet.getObject("start_at", LocalTime.class)),
+            new Theme(
+                    resultSet.getLong("theme_id"),
+                    resultSet.getString("theme_name"),
+                    resultSet.getString("description"),
+                    resultSet.getString("thumbnail"))
+    );
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ReservationDao reservationDao;
+    private ReservationPageRequest request;
+    private String sql;
+    private Object[] parameters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        new DatasetGenerator(jdbcTemplate).generate(
+                new DatasetSpec(42L, 200, 10, 10, LocalDate.of(2024, 1, 1), 30, 0.5, 1.0, 1.5));
+        reservationDao = new ReservationDao(jdbcTemplate);
+        request = new ReservationPageRequest(null, null, null, null, ReservationPageRequest.DEFAULT_SIZE);
+
+        SqlStatementListener capture = (connection, executedSql, boundParameters, nanos) -> {
+            sql = executedSql;
+            parameters = boundParameters.clone();
+        };
+        new ReservationDao(new JdbcTemplate(new SqlTracingDataSource(database, capture))).readReservations(request, ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Reservation> mapPerRow_before() {
+        return jdbcTemplate.query(sql, PER_ROW_MAPPER, parameters);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Reservation> mapInterned_after() {
+        return reservationDao.readReservations(request, ROWS);
+    }
+}
@@ -0,0 +1,77 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import roomescape.dao.ReservationDao;
+import roomescape.dataset.DatasetGenerator;
+import roomescape.dataset.DatasetSpec;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationSummary;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.ReservationPageResponse;
+import roomescape.dto.response.ReservationSummaryPageResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReservationProjectionBenchmark {
+    private static final int ROWS = 1_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+    private EmbeddedDatabase database;
+    private ReservationDao reservationDao;
+    private ReservationPageRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        new DatasetGenerator(jdbcTemplate).generate(
+                new DatasetSpec(42L, 10_000, 50, 28, LocalDate.of(2024, 1, 1), 180, 0.6, 1.0, 1.5));
+        reservationDao = new ReservationDao(jdbcTemplate);
+        request = new ReservationPageRequest(null, null, null, null, ReservationPageRequest.MAX_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public byte[] readFull(PayloadSize payloadSize) throws JsonProcessingException {
+        List<Reservation> reservations = reservationDao.readReservations(request, ROWS);
+        return payloadSize.record(objectMapper.writeValueAsBytes(ReservationPageResponse.of(reservations, null)));
+    }
+
+    @Benchmark
+    public byte[] readSummary(PayloadSize payloadSize) throws JsonProcessingException {
+        List<ReservationSummary> reservations = reservationDao.readReservationSummaries(request, ROWS);
+        return payloadSize.record(objectMapper.writeValueAsBytes(ReservationSummaryPageResponse.of(reservations, null)));
+    }
+}
@@ -0,0 +1,38 @@
+package roomescape.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import roomescape.dto.response.AvailableTimeResponse;
+import roomescape.dto.response.ReservationResponse;
+import roomescape.dto.response.ThemeResponse;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+    @Benchmark
+    public List<AvailableTimeResponse> readAvailableTimes(BenchmarkContext context) {
+        return context.timeService().readAvailableTimes(context.middleDate(), context.popularThemeId());
+    }
+
+    @Benchmark
+    public List<ThemeResponse> readPopularThemes(BenchmarkContext context) {
+        return context.themeService().readPopularThemes();
+    }
+
+    @Benchmark
+    public List<ThemeResponse> readPopularThemes_recomputed(BenchmarkContext context) {
+        context.popularThemeRanking().invalidateAll();
+        return context.themeService().readPopularThemes();
+    }
+
+    @Benchmark
+    public ReservationResponse createReservation(BenchmarkContext context) {
+        return context.reservationService().createReservation(context.nextFreeReservation());
+    }
+}
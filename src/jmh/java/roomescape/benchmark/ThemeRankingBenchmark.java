@@ -0,0 +1,85 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import roomescape.dao.ThemeDao;
+import roomescape.dataset.DatasetGenerator;
+import roomescape.dataset.DatasetSpec;
+import roomescape.domain.Theme;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ThemeRankingBenchmark {
+    private static final String RESERVATION_TABLE_SQL = """
+            SELECT theme.id, theme.name, theme.description, theme.thumbnail, COUNT(reservation.theme_id) AS reservation_count
+            FROM theme
+            JOIN reservation
+            ON reservation.theme_id = theme.id
+            WHERE reservation.date >= ? AND reservation.date <= ?
+            GROUP BY theme.id, theme.name, theme.description, theme.thumbnail
+            ORDER BY reservation_count DESC
+            LIMIT 10
+            """;
+
+    @Param({"90", "730", "3650"})
+    private int days;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private ThemeDao themeDao;
+    private String startDate;
+    private String endDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        DatasetSpec spec = new DatasetSpec(42L, 10_000, 50, 28, LocalDate.of(2015, 1, 1), days, 0.6, 1.0, 1.5);
+        new DatasetGenerator(jdbcTemplate).generate(spec);
+        themeDao = new ThemeDao(jdbcTemplate);
+        startDate = spec.endDate().minusDays(6).toString();
+        endDate = spec.endDate().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Theme> readThemesRanking_dailyCount() {
+        return themeDao.readThemesRankingOfReservation(startDate, endDate);
+    }
+
+    @Benchmark
+    public List<Theme> readThemesRanking_reservationTable() {
+        return jdbcTemplate.query(RESERVATION_TABLE_SQL, (resultSet, rowNum) -> new Theme(
+                resultSet.getLong("id"),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getString("thumbnail")
+        ), startDate, endDate);
+    }
+}
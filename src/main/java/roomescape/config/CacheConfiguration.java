@@ -0,0 +1,28 @@
+package roomescape.config;
+
+import java.util.List;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import roomescape.config.cache.BoundedCache;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+    public static final String TIMES = "times";
+    public static final String THEMES = "themes";
+
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new BoundedCache(TIMES, 1),
+                new BoundedCache(THEMES, 1)
+        ));
+        return cacheManager;
+    }
+}
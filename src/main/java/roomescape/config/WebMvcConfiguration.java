@@ -7,22 +7,28 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import roomescape.config.metrics.LatencyMetrics;
 import roomescape.controller.intercepter.CheckAdminLoginInterceptor;
+import roomescape.controller.intercepter.EndpointMetricsInterceptor;
 import roomescape.controller.resolver.LoginMemberArgumentResolver;
 import roomescape.controller.resolver.ReservationDetailArgumentResolver;
+import roomescape.controller.resolver.ReservationPageArgumentResolver;
 import roomescape.service.TokenService;
 
 @Configuration
 public class WebMvcConfiguration implements WebMvcConfigurer {
 
     private final TokenService tokenService;
+    private final LatencyMetrics latencyMetrics;
 
-    public WebMvcConfiguration(TokenService tokenService) {
+    public WebMvcConfiguration(TokenService tokenService, LatencyMetrics latencyMetrics) {
         this.tokenService = tokenService;
+        this.latencyMetrics = latencyMetrics;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointMetricsInterceptor(latencyMetrics));
         registry.addInterceptor(new CheckAdminLoginInterceptor(tokenService))
                 .addPathPatterns("/admin/**");
     }
@@ -31,5 +37,6 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new LoginMemberArgumentResolver(tokenService));
         resolvers.add(new ReservationDetailArgumentResolver());
+        resolvers.add(new ReservationPageArgumentResolver());
     }
 }
@@ -0,0 +1,126 @@
+package roomescape.config.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+public class BoundedCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final int maxSize;
+    private final Map<Object, Object> store;
+    private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public BoundedCache(String name, int maxSize) {
+        super(false);
+        this.name = name;
+        this.maxSize = maxSize;
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > BoundedCache.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Map<Object, Object> getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected synchronized Object lookup(Object key) {
+        Object value = store.get(key);
+        if (value == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return value;
+    }
+
+    private synchronized Object peek(Object key) {
+        return store.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object storeValue = lookup(key);
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(key, loading);
+        if (inFlight != null) {
+            return (T) await(key, valueLoader, inFlight);
+        }
+        try {
+            Object loadedValue = peek(key);
+            T value = loadedValue != null ? (T) fromStoreValue(loadedValue) : valueLoader.call();
+            put(key, value);
+            loading.complete(value);
+            return value;
+        } catch (Exception exception) {
+            loading.completeExceptionally(exception);
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        } finally {
+            loads.remove(key, loading);
+            loading.cancel(false);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (ExecutionException exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+    }
+
+    @Override
+    public synchronized void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        store.put(key, toStoreValue(value));
+    }
+
+    @Override
+    public synchronized void evict(Object key) {
+        store.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        store.clear();
+    }
+
+    public synchronized int size() {
+        return store.size();
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+}
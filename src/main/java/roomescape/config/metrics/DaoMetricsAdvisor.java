@@ -0,0 +1,50 @@
+package roomescape.config.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+
+public class DaoMetricsAdvisor extends StaticMethodMatcherPointcutAdvisor {
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    public DaoMetricsAdvisor(LatencyMetrics latencyMetrics) {
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+        setAdvice((MethodInterceptor) invocation -> {
+            String name = nameOf(invocation);
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                latencyMetrics.record(name, LatencyMetrics.SUCCESS, System.nanoTime() - start);
+                return result;
+            } catch (Throwable throwable) {
+                latencyMetrics.record(name, throwable.getClass().getSimpleName(), System.nanoTime() - start);
+                throw throwable;
+            }
+        });
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return AnnotatedElementUtils.hasAnnotation(targetClass, Repository.class)
+                && Modifier.isPublic(method.getModifiers())
+                && method.getDeclaringClass() != Object.class;
+    }
+
+    private String nameOf(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        String name = names.get(method);
+        if (name == null) {
+            name = names.computeIfAbsent(method,
+                    key -> key.getDeclaringClass().getSimpleName() + "." + key.getName());
+        }
+        return name;
+    }
+}
@@ -0,0 +1,76 @@
+package roomescape.config.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    public long percentileNanos(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            snapshot[index] = buckets.get(index);
+            total += snapshot[index];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(percentile * total), 1);
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += snapshot[index];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(index), maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
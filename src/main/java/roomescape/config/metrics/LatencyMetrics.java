@@ -0,0 +1,44 @@
+package roomescape.config.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class LatencyMetrics {
+    public static final String SUCCESS = "success";
+
+    private final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    public void record(String name, String outcome, long nanos) {
+        Map<String, LatencyHistogram> byOutcome = histograms.get(name);
+        if (byOutcome == null) {
+            byOutcome = histograms.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+        }
+        LatencyHistogram histogram = byOutcome.get(outcome);
+        if (histogram == null) {
+            histogram = byOutcome.computeIfAbsent(outcome, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>();
+        histograms.forEach((name, byOutcome) -> byOutcome.forEach(
+                (outcome, histogram) -> entries.add(new Entry(name, outcome, histogram))));
+        entries.sort((left, right) -> left.name().equals(right.name())
+                ? left.outcome().compareTo(right.outcome())
+                : left.name().compareTo(right.name()));
+        return entries;
+    }
+
+    public void clear() {
+        histograms.clear();
+    }
+
+    public record Entry(String name, String outcome, LatencyHistogram histogram) {
+    }
+}
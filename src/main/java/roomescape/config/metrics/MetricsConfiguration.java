@@ -0,0 +1,15 @@
+package roomescape.config.metrics;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+public class MetricsConfiguration {
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static DaoMetricsAdvisor daoMetricsAdvisor(LatencyMetrics latencyMetrics) {
+        return new DaoMetricsAdvisor(latencyMetrics);
+    }
+}
@@ -0,0 +1,28 @@
+package roomescape.config.sql;
+
+public class SqlRequestStats {
+    private final boolean sampled;
+    private int statementCount;
+    private long totalNanos;
+
+    public SqlRequestStats(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    void add(long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+    }
+
+    public boolean sampled() {
+        return sampled;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.config.sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public interface SqlStatementListener {
+    default boolean capturesParameters() {
+        return true;
+    }
+
+    default void prepared(String sql) {
+    }
+
+    void executed(Connection connection, String sql, Object[] parameters, long nanos) throws SQLException;
+}
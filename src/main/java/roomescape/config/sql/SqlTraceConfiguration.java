@@ -0,0 +1,29 @@
+package roomescape.config.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlTraceConfiguration {
+    @Bean
+    public static BeanPostProcessor sqlTracingDataSourcePostProcessor(ObjectProvider<SqlTracer> sqlTracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && sqlTracer.getObject().isEnabled()) {
+                    return new SqlTracingDataSource(dataSource, sqlTracer.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlTraceFilter sqlTraceFilter(SqlTracer sqlTracer) {
+        return new SqlTraceFilter(sqlTracer);
+    }
+}
@@ -0,0 +1,37 @@
+package roomescape.config.sql;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class SqlTraceFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlTraceFilter.class);
+
+    private final SqlTracer sqlTracer;
+
+    public SqlTraceFilter(SqlTracer sqlTracer) {
+        this.sqlTracer = sqlTracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = sqlTracer.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlTracer.endRequest();
+            if (stats.sampled() && stats.statementCount() > 0) {
+                log.info("{} {} {} - {} statements, {}us in database", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), stats.statementCount(), stats.totalNanos() / 1_000);
+            }
+        }
+    }
+}
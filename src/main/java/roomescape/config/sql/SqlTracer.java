@@ -0,0 +1,90 @@
+package roomescape.config.sql;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SqlTracer implements SqlStatementListener {
+    private static final Logger log = LoggerFactory.getLogger(SqlTracer.class);
+    private static final Pattern SENSITIVE_SQL = Pattern.compile("(?i)password\\s*=\\s*\\?|insert\\s+into\\s+member\\b");
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final ThreadLocal<SqlRequestStats> requestStats = new ThreadLocal<>();
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public SqlTracer(@Value("${roomescape.sql-trace.enabled:true}") boolean enabled,
+                     @Value("${roomescape.sql-trace.sample-rate:0.1}") double sampleRate,
+                     @Value("${roomescape.sql-trace.slow-threshold-ms:100}") long slowThresholdMillis) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean capturesParameters() {
+        SqlRequestStats stats = requestStats.get();
+        if (stats != null) {
+            return stats.sampled();
+        }
+        return sample();
+    }
+
+    public SqlRequestStats beginRequest() {
+        SqlRequestStats stats = new SqlRequestStats(enabled && sample());
+        requestStats.set(stats);
+        return stats;
+    }
+
+    public void endRequest() {
+        requestStats.remove();
+    }
+
+    @Override
+    public void executed(Connection connection, String sql, Object[] parameters, long nanos) {
+        SqlRequestStats stats = requestStats.get();
+        if (stats != null) {
+            stats.add(nanos);
+        }
+        if (nanos >= slowThresholdNanos) {
+            log.warn("slow query {}ms: {} {}", nanos / 1_000_000, sql.strip().replaceAll("\\s+", " "),
+                    formatParameters(sql, parameters));
+        }
+    }
+
+    private boolean sample() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String formatParameters(String sql, Object[] parameters) {
+        if (parameters == null) {
+            return "[not sampled]";
+        }
+        if (SENSITIVE_SQL.matcher(sql).find()) {
+            return "[" + parameters.length + " masked]";
+        }
+        return Arrays.toString(Arrays.stream(parameters)
+                .map(this::formatParameter)
+                .toArray());
+    }
+
+    private String formatParameter(Object parameter) {
+        String value = String.valueOf(parameter);
+        if (value.length() <= MAX_PARAMETER_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_PARAMETER_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,111 @@
+package roomescape.config.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class SqlTracingDataSource extends DelegatingDataSource {
+    private static final Set<String> PREPARING_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final SqlStatementListener listener;
+
+    public SqlTracingDataSource(DataSource targetDataSource, SqlStatementListener listener) {
+        super(targetDataSource);
+        this.listener = listener;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return tracingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return tracingConnection(super.getConnection(username, password));
+    }
+
+    private Connection tracingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (PREPARING_METHODS.contains(method.getName())) {
+                        listener.prepared((String) args[0]);
+                        return tracingStatement(connection, (Statement) result, (String) args[0]);
+                    }
+                    if (method.getName().equals("createStatement")) {
+                        listener.prepared(null);
+                        return tracingStatement(connection, (Statement) result, null);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement tracingStatement(Connection connection, Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        TracedStatement traced = new TracedStatement(connection, statement, preparedSql, listener.capturesParameters());
+        return (Statement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, traced::invoke);
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getTargetException();
+        }
+    }
+
+    private class TracedStatement {
+        private final Connection connection;
+        private final Statement statement;
+        private final String preparedSql;
+        private Object[] parameters;
+
+        private TracedStatement(Connection connection, Statement statement, String preparedSql, boolean capturesParameters) {
+            this.connection = connection;
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+            this.parameters = capturesParameters ? NO_PARAMETERS : null;
+        }
+
+        private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (parameters != null && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            }
+            if (!name.startsWith("execute")) {
+                return SqlTracingDataSource.this.invoke(statement, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return SqlTracingDataSource.this.invoke(statement, method, args);
+            } finally {
+                listener.executed(connection, sql == null ? "" : sql, parameters, System.nanoTime() - start);
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, index);
+            }
+            parameters[index - 1] = value;
+        }
+    }
+}
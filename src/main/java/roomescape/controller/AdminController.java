@@ -1,24 +1,62 @@
 package roomescape.controller;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.springframework.cache.CacheManager;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import roomescape.config.cache.BoundedCache;
+import roomescape.config.metrics.LatencyMetrics;
+import roomescape.domain.infrastructure.VerifiedTokenCache;
 import roomescape.dto.request.ReservationAdminCreateRequest;
+import roomescape.dto.response.CacheStatsResponse;
+import roomescape.dto.response.LatencyMetricResponse;
 import roomescape.dto.response.ReservationResponse;
 import roomescape.service.ReservationService;
+import roomescape.service.ThemeService;
 
 @RestController
 @RequestMapping("/admin")
 public class AdminController {
     private final ReservationService service;
+    private final ThemeService themeService;
+    private final CacheManager cacheManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LatencyMetrics latencyMetrics;
 
-    public AdminController(ReservationService service) {
+    public AdminController(ReservationService service, ThemeService themeService, CacheManager cacheManager,
+                           VerifiedTokenCache verifiedTokenCache, LatencyMetrics latencyMetrics) {
         this.service = service;
+        this.themeService = themeService;
+        this.cacheManager = cacheManager;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStatsResponse>> readCacheStats() {
+        List<CacheStatsResponse> response = new ArrayList<>(cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(BoundedCache.class::isInstance)
+                .map(cache -> CacheStatsResponse.from((BoundedCache) cache))
+                .toList());
+        response.add(CacheStatsResponse.from(verifiedTokenCache));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<List<LatencyMetricResponse>> readMetrics() {
+        List<LatencyMetricResponse> response = latencyMetrics.entries().stream()
+                .map(LatencyMetricResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/reservations")
@@ -29,4 +67,10 @@ public class AdminController {
         return ResponseEntity.created(location)
                 .body(response);
     }
+
+    @PostMapping("/themes/daily-counts")
+    public ResponseEntity<Void> rebuildThemeDailyCounts() {
+        themeService.rebuildThemeDailyCounts();
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -44,6 +44,9 @@ public class AuthController {
 
     @GetMapping("/login/check")
     public ResponseEntity<MemberResponse> checkLogin(LoginMember member) {
+        if (tokenService.isFresh(member)) {
+            return ResponseEntity.ok(MemberResponse.from(member));
+        }
         MemberResponse response = memberService.readMember(member.id());
         return ResponseEntity.ok(response);
     }
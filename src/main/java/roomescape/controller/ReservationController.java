@@ -1,8 +1,13 @@
 package roomescape.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,24 +17,39 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import roomescape.dto.request.LoginMember;
 import roomescape.dto.request.ReservationAdminCreateRequest;
 import roomescape.dto.request.ReservationDetailRequest;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.NormalizedReservationListResponse;
+import roomescape.dto.response.ReservationPageResponse;
 import roomescape.dto.response.ReservationResponse;
+import roomescape.dto.response.ReservationSummaryPageResponse;
+import roomescape.dto.response.ReservationSummaryResponse;
 import roomescape.service.ReservationService;
 
 @RestController
 @RequestMapping("/reservations")
 public class ReservationController {
+    public static final String NORMALIZED_MEDIA_TYPE = "application/vnd.roomescape.normalized+json";
+    private static final String NORMALIZED_VIEW = "view=normalized";
+    private static final String STREAM = "stream=true";
+    private static final String NOT_NORMALIZED_VIEW = "view!=normalized";
+
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, ObjectMapper objectMapper) {
         this.reservationService = reservationService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> readReservations() {
-        List<ReservationResponse> response = reservationService.readReservations();
+    public ResponseEntity<ReservationPageResponse> readReservations(ReservationPageRequest request) {
+        ReservationPageResponse response = reservationService.readReservations(request);
         return ResponseEntity.ok(response);
     }
 
@@ -39,6 +59,76 @@ public class ReservationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = {STREAM, NOT_NORMALIZED_VIEW}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public void streamReservations(ReservationPageRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = createGenerator(response)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("reservations");
+            String nextCursor = reservationService.readReservations(request, reservation -> write(generator, reservation));
+            generator.writeEndArray();
+            generator.writeStringField("nextCursor", nextCursor);
+            generator.writeEndObject();
+        }
+    }
+
+    @GetMapping(value = "/detail", params = {STREAM, NOT_NORMALIZED_VIEW}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public void streamDetailReservations(ReservationDetailRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = createGenerator(response)) {
+            generator.writeStartArray();
+            reservationService.readReservations(request, reservation -> write(generator, reservation));
+            generator.writeEndArray();
+        }
+    }
+
+    private JsonGenerator createGenerator(HttpServletResponse response) throws IOException {
+        return objectMapper.createGenerator(response.getOutputStream())
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    }
+
+    private void write(JsonGenerator generator, ReservationResponse reservation) {
+        try {
+            generator.writeObject(reservation);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @GetMapping(params = NORMALIZED_VIEW)
+    public ResponseEntity<NormalizedReservationListResponse> readNormalizedReservations(ReservationPageRequest request) {
+        NormalizedReservationListResponse response = reservationService.readNormalizedReservations(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(produces = NORMALIZED_MEDIA_TYPE)
+    public ResponseEntity<NormalizedReservationListResponse> readNormalizedReservationsByAccept(ReservationPageRequest request) {
+        return readNormalizedReservations(request);
+    }
+
+    @GetMapping(value = "/detail", params = NORMALIZED_VIEW)
+    public ResponseEntity<NormalizedReservationListResponse> readNormalizedDetailReservations(ReservationDetailRequest request) {
+        NormalizedReservationListResponse response = reservationService.readNormalizedReservations(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/detail", produces = NORMALIZED_MEDIA_TYPE)
+    public ResponseEntity<NormalizedReservationListResponse> readNormalizedDetailReservationsByAccept(ReservationDetailRequest request) {
+        return readNormalizedDetailReservations(request);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<ReservationSummaryPageResponse> readReservationSummaries(ReservationPageRequest request) {
+        ReservationSummaryPageResponse response = reservationService.readReservationSummaries(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/detail/summary")
+    public ResponseEntity<List<ReservationSummaryResponse>> readDetailReservationSummaries(ReservationDetailRequest request) {
+        List<ReservationSummaryResponse> response = reservationService.readReservationSummaries(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<ReservationResponse> createReservation(@RequestBody ReservationAdminCreateRequest dto, LoginMember member) {
         ReservationAdminCreateRequest request = ReservationAdminCreateRequest.of(dto, member.id());
@@ -1,8 +1,10 @@
 package roomescape.controller;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import roomescape.dto.request.TimeCreateRequest;
+import roomescape.dto.response.AvailabilityMatrixResponse;
+import roomescape.dto.response.AvailableDateResponse;
 import roomescape.dto.response.AvailableTimeResponse;
 import roomescape.dto.response.TimeResponse;
 import roomescape.service.TimeService;
@@ -34,11 +38,26 @@ public class TimeController {
     }
 
     @GetMapping("/available")
-    public ResponseEntity<List<AvailableTimeResponse>> readAvailableTimes(@RequestParam String date, @RequestParam Long themeId) {
+    public ResponseEntity<List<AvailableTimeResponse>> readAvailableTimes(@RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                                                          @RequestParam Long themeId) {
         List<AvailableTimeResponse> response = service.readAvailableTimes(date, themeId);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/available/range")
+    public ResponseEntity<List<AvailableDateResponse>> readAvailableDates(@RequestParam Long themeId,
+                                                                          @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+                                                                          @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        List<AvailableDateResponse> response = service.readAvailableDates(themeId, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/available/matrix")
+    public ResponseEntity<AvailabilityMatrixResponse> readAvailabilityMatrix(@RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        AvailabilityMatrixResponse response = service.readAvailabilityMatrix(date);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     public ResponseEntity<TimeResponse> createTime(@RequestBody TimeCreateRequest dto) {
         TimeResponse response = service.createTime(dto);
@@ -6,8 +6,8 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import roomescape.domain.Role;
 import roomescape.domain.exception.AuthFailException;
+import roomescape.dto.request.LoginMember;
 import roomescape.service.TokenService;
 
 public class CheckAdminLoginInterceptor implements HandlerInterceptor {
@@ -25,8 +25,8 @@ public class CheckAdminLoginInterceptor implements HandlerInterceptor {
             throw new AuthFailException("접근할 수 없는 페이지입니다.");
         }
 
-        Role role = tokenService.findRole(cookie);
-        if (role.isAdmin()) {
+        LoginMember loginMember = tokenService.findLoginMember(request);
+        if (loginMember.isAdmin()) {
             return true;
         }
         throw new AuthFailException("접근할 수 없는 페이지입니다.");
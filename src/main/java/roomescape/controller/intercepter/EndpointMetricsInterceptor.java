@@ -0,0 +1,36 @@
+package roomescape.controller.intercepter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import roomescape.config.metrics.LatencyMetrics;
+
+public class EndpointMetricsInterceptor implements HandlerInterceptor {
+    private static final String START_NANOS = EndpointMetricsInterceptor.class.getName() + ".startNanos";
+
+    private final LatencyMetrics latencyMetrics;
+
+    public EndpointMetricsInterceptor(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_NANOS, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(START_NANOS) instanceof Long startNanos)) {
+            return;
+        }
+        String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        String outcome = ex == null ? response.getStatus() / 100 + "xx" : ex.getClass().getSimpleName();
+        latencyMetrics.record(name, outcome, System.nanoTime() - startNanos);
+    }
+}
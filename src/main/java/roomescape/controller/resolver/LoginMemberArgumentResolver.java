@@ -26,7 +26,6 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public LoginMember resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        Long id = tokenService.findTokenId(request.getCookies());
-        return new LoginMember(id);
+        return tokenService.findLoginMember(request);
     }
 }
@@ -0,0 +1,55 @@
+package roomescape.controller.resolver;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import roomescape.domain.exception.IllegalRequestArgumentException;
+import roomescape.dto.request.ReservationCursor;
+import roomescape.dto.request.ReservationPageRequest;
+
+public class ReservationPageArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(ReservationPageRequest.class);
+    }
+
+    @Override
+    public ReservationPageRequest resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+
+        Long themeId = parseOrNull(request, "themeId", Long::valueOf);
+        LocalDate dateFrom = parseOrNull(request, "dateFrom", value -> LocalDate.parse(value, DATE_FORMATTER));
+        LocalDate dateTo = parseOrNull(request, "dateTo", value -> LocalDate.parse(value, DATE_FORMATTER));
+        ReservationCursor cursor = parseOrNull(request, "cursor", ReservationCursor::parse);
+        Integer size = parseOrNull(request, "size", Integer::valueOf);
+
+        if (size == null) {
+            size = ReservationPageRequest.DEFAULT_SIZE;
+        }
+        return new ReservationPageRequest(themeId, dateFrom, dateTo, cursor, size);
+    }
+
+    private <T> T parseOrNull(HttpServletRequest request, String name, Function<String, T> parser) {
+        String value = request.getParameter(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (DateTimeParseException | NumberFormatException exception) {
+            throw new IllegalRequestArgumentException("%s(%s)의 형식이 올바르지 않습니다.".formatted(name, value));
+        }
+    }
+}
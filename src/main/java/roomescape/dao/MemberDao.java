@@ -4,7 +4,6 @@ import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -37,20 +36,16 @@ public class MemberDao {
 
     public Optional<Member> readMemberById(Long id) {
         String sql = "SELECT id, name, email, password, role FROM member WHERE id = ?";
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, id));
-        } catch (EmptyResultDataAccessException exception) {
-            return Optional.empty();
-        }
+        return jdbcTemplate.query(sql, rowMapper, id)
+                .stream()
+                .findFirst();
     }
 
     public Optional<Member> readMemberByEmailAndPassword(String email, String password) {
         String sql = "SELECT id, name, email, password, role FROM member WHERE email = ? AND password = ?";
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, email, password));
-        } catch (EmptyResultDataAccessException exception) {
-            return Optional.empty();
-        }
+        return jdbcTemplate.query(sql, rowMapper, email, password)
+                .stream()
+                .findFirst();
     }
 
     public boolean existsMemberByEmail(String email) {
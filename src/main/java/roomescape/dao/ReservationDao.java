@@ -3,11 +3,14 @@ package roomescape.dao;
 import java.sql.PreparedStatement;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -15,56 +18,99 @@ import org.springframework.stereotype.Repository;
 
 import roomescape.domain.Member;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationCandidate;
+import roomescape.domain.ReservationSummary;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.Role;
 import roomescape.domain.Theme;
+import roomescape.domain.exception.IllegalRequestArgumentException;
+import roomescape.dto.request.ReservationCursor;
 import roomescape.dto.request.ReservationDetailRequest;
+import roomescape.dto.request.ReservationPageRequest;
 
 @Repository
 public class ReservationDao {
     private final JdbcTemplate jdbcTemplate;
-    private final RowMapper<Reservation> rowMapper;
+    private final RowMapper<ReservationSummary> summaryRowMapper;
 
     public ReservationDao(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
-        this.rowMapper = (resultSet, rowNum) -> new Reservation(
+        this.summaryRowMapper = (resultSet, rowNum) -> new ReservationSummary(
                 resultSet.getLong("id"),
                 resultSet.getObject("date", LocalDate.class),
-                new Member(
-                        resultSet.getLong("member_id"),
-                        resultSet.getString("member_name"),
-                        resultSet.getString("email"),
-                        resultSet.getString("password"),
-                        Role.valueOf(resultSet.getString("role"))),
-                new ReservationTime(
-                        resultSet.getLong("time_id"),
-                        resultSet.getObject("start_at", LocalTime.class)),
-                new Theme(
-                        resultSet.getLong("theme_id"),
-                        resultSet.getString("theme_name"),
-                        resultSet.getString("description"),
-                        resultSet.getString("thumbnail"))
+                resultSet.getLong("member_id"),
+                resultSet.getString("member_name"),
+                resultSet.getLong("time_id"),
+                resultSet.getObject("start_at", LocalTime.class),
+                resultSet.getLong("theme_id"),
+                resultSet.getString("theme_name")
         );
     }
 
-    public List<Reservation> readReservations() {
+    public List<Reservation> readReservations(ReservationPageRequest request, int limit) {
+        List<Reservation> reservations = new ArrayList<>();
+        readReservations(request, limit, reservations::add);
+        return reservations;
+    }
+
+    public void readReservations(ReservationPageRequest request, int limit, Consumer<Reservation> consumer) {
+        List<Object> params = new ArrayList<>();
         String sql = """
                 SELECT reservation.id, reservation.date,
-                        reservation.member_id, member.name AS member_name, member.email, member.password, member.role,
+                        reservation.member_id, member.name AS member_name, member.email, member.role,
                         reservation.time_id, reservation_time.start_at,
                         reservation.theme_id, theme.name AS theme_name, theme.description, theme.thumbnail
-                FROM reservation
+                FROM (%s) AS reservation
                 JOIN member ON reservation.member_id = member.id
                 JOIN reservation_time ON reservation.time_id = reservation_time.id
                 JOIN theme ON reservation.theme_id = theme.id
-                """;
-        return jdbcTemplate.query(sql, rowMapper);
+                ORDER BY reservation.date, reservation.time_id, reservation.id
+                """.formatted(selectPage(request, limit, params));
+
+        jdbcTemplate.query(sql, streamTo(consumer), params.toArray());
+    }
+
+    private String selectPage(ReservationPageRequest request, int limit, List<Object> params) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, date, member_id, time_id, theme_id
+                FROM reservation
+                WHERE 1 = 1""");
+        if (request.themeId() != null) {
+            sql.append(" AND reservation.theme_id = ?");
+            params.add(request.themeId());
+        }
+        if (request.dateFrom() != null) {
+            sql.append(" AND reservation.date >= ?");
+            params.add(request.dateFrom());
+        }
+        if (request.dateTo() != null) {
+            sql.append(" AND reservation.date <= ?");
+            params.add(request.dateTo());
+        }
+        if (request.hasCursor()) {
+            ReservationCursor cursor = request.cursor();
+            sql.append(" AND reservation.date >= ?");
+            sql.append(" AND (reservation.date, reservation.time_id, reservation.id) > (?, ?, ?)");
+            params.add(cursor.date());
+            params.add(cursor.date());
+            params.add(cursor.timeId());
+            params.add(cursor.id());
+        }
+        sql.append(" ORDER BY reservation.date, reservation.time_id, reservation.id LIMIT ?");
+        params.add(limit);
+        return sql.toString();
     }
 
     public List<Reservation> readReservationsByDetails(ReservationDetailRequest request) {
+        List<Reservation> reservations = new ArrayList<>();
+        readReservationsByDetails(request, reservations::add);
+        return reservations;
+    }
+
+    public void readReservationsByDetails(ReservationDetailRequest request, Consumer<Reservation> consumer) {
         String sql = """
                 SELECT reservation.id, reservation.date,
-                        reservation.member_id, member.name AS member_name, member.email, member.password, member.role,
+                        reservation.member_id, member.name AS member_name, member.email, member.role,
                         reservation.time_id, reservation_time.start_at,
                         reservation.theme_id, theme.name AS theme_name, theme.description, theme.thumbnail
                 FROM reservation
@@ -73,76 +119,106 @@ public class ReservationDao {
                 JOIN theme ON reservation.theme_id = theme.id
                 WHERE reservation.theme_id = ? AND reservation.member_id = ? AND reservation.date >= ? AND reservation.date <= ?
                 """;
-        return jdbcTemplate.query(sql, rowMapper, request.themeId(), request.memberId(), request.dateFrom(), request.dateTo());
+        jdbcTemplate.query(sql, streamTo(consumer), request.themeId(), request.memberId(), request.dateFrom(), request.dateTo());
     }
 
-    private Optional<Reservation> readReservationById(Long id) {
+    private RowCallbackHandler streamTo(Consumer<Reservation> consumer) {
+        ReservationRowMapper rowMapper = new ReservationRowMapper();
+        return resultSet -> consumer.accept(rowMapper.mapRow(resultSet, resultSet.getRow()));
+    }
+
+    public List<ReservationSummary> readReservationSummaries(ReservationPageRequest request, int limit) {
+        List<Object> params = new ArrayList<>();
         String sql = """
                 SELECT reservation.id, reservation.date,
-                        reservation.member_id, member.name AS member_name, member.email, member.password, member.role,
+                        reservation.member_id, member.name AS member_name,
                         reservation.time_id, reservation_time.start_at,
-                        reservation.theme_id, theme.name AS theme_name, theme.description, theme.thumbnail
-                FROM reservation
+                        reservation.theme_id, theme.name AS theme_name
+                FROM (%s) AS reservation
                 JOIN member ON reservation.member_id = member.id
                 JOIN reservation_time ON reservation.time_id = reservation_time.id
                 JOIN theme ON reservation.theme_id = theme.id
-                WHERE reservation.id = ?
-                """;
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, id));
-        } catch (EmptyResultDataAccessException exception) {
-            return Optional.empty();
-        }
+                ORDER BY reservation.date, reservation.time_id, reservation.id
+                """.formatted(selectPage(request, limit, params));
+
+        return jdbcTemplate.query(sql, summaryRowMapper, params.toArray());
     }
 
-    public boolean existsReservationByTimeId(Long timeId) {
+    public List<ReservationSummary> readReservationSummariesByDetails(ReservationDetailRequest request) {
         String sql = """
-                SELECT EXISTS (
-                    SELECT 1
-                    FROM reservation
-                    WHERE time_id = ?
-                )
+                SELECT reservation.id, reservation.date,
+                        reservation.member_id, member.name AS member_name,
+                        reservation.time_id, reservation_time.start_at,
+                        reservation.theme_id, theme.name AS theme_name
+                FROM reservation
+                JOIN member ON reservation.member_id = member.id
+                JOIN reservation_time ON reservation.time_id = reservation_time.id
+                JOIN theme ON reservation.theme_id = theme.id
+                WHERE reservation.theme_id = ? AND reservation.member_id = ? AND reservation.date >= ? AND reservation.date <= ?
                 """;
-        return jdbcTemplate.queryForObject(sql, Boolean.class, timeId);
+        return jdbcTemplate.query(sql, summaryRowMapper, request.themeId(), request.memberId(), request.dateFrom(), request.dateTo());
     }
 
-    public boolean existsReservationByThemeId(Long themeId) {
+    public ReservationCandidate readReservationCandidate(LocalDate date, Long timeId, Long themeId, Long memberId) {
         String sql = """
-                SELECT EXISTS (
-                    SELECT 1
-                    FROM reservation
-                    WHERE theme_id = ?
-                )
+                SELECT reservation_time.id AS time_id, reservation_time.start_at,
+                        theme.id AS theme_id, theme.name AS theme_name, theme.description, theme.thumbnail,
+                        member.id AS member_id, member.name AS member_name, member.email, member.role,
+                        EXISTS (
+                            SELECT 1
+                            FROM reservation
+                            WHERE date = ? AND time_id = ? AND theme_id = ?
+                        ) AS already_booked
+                FROM (SELECT 1) AS request
+                LEFT JOIN reservation_time ON reservation_time.id = ?
+                LEFT JOIN theme ON theme.id = ?
+                LEFT JOIN member ON member.id = ?
                 """;
-        return jdbcTemplate.queryForObject(sql, Boolean.class, themeId);
+        return jdbcTemplate.queryForObject(sql, (resultSet, rowNum) -> new ReservationCandidate(
+                resultSet.getObject("time_id") == null ? null : new ReservationTime(
+                        resultSet.getLong("time_id"),
+                        resultSet.getObject("start_at", LocalTime.class)),
+                resultSet.getObject("theme_id") == null ? null : new Theme(
+                        resultSet.getLong("theme_id"),
+                        resultSet.getString("theme_name"),
+                        resultSet.getString("description"),
+                        resultSet.getString("thumbnail")),
+                resultSet.getObject("member_id") == null ? null : new Member(
+                        resultSet.getLong("member_id"),
+                        resultSet.getString("member_name"),
+                        resultSet.getString("email"),
+                        null,
+                        Role.valueOf(resultSet.getString("role"))),
+                resultSet.getBoolean("already_booked")
+        ), date, timeId, themeId, timeId, themeId, memberId);
     }
 
-    public boolean existsReservationByDateAndTimeIdAndThemeId(LocalDate date, Long timeId, Long themeId) {
-        String sql = """
-                SELECT EXISTS (
-                    SELECT 1
-                    FROM reservation
-                    WHERE date = ? AND time_id = ? AND theme_id = ?
-                )
-                """;
-        return jdbcTemplate.queryForObject(sql, Boolean.class, date, timeId, themeId);
+    public Optional<LocalDate> readReservationDateById(Long id) {
+        String sql = "SELECT date FROM reservation WHERE id = ?";
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> resultSet.getObject("date", LocalDate.class), id)
+                .stream()
+                .findFirst();
     }
 
     public Reservation createReservation(Reservation reservation) {
         KeyHolder keyHolder = new GeneratedKeyHolder();
         String sql = "INSERT INTO reservation (date, member_id, time_id, theme_id) values (?, ?, ?, ?)";
 
-        jdbcTemplate.update(connection -> {
-            PreparedStatement preparedStatement = connection.prepareStatement(sql, new String[]{"id"});
-            preparedStatement.setObject(1, reservation.getDate());
-            preparedStatement.setLong(2, reservation.getMemberId());
-            preparedStatement.setLong(3, reservation.getTimeId());
-            preparedStatement.setLong(4, reservation.getThemeId());
-            return preparedStatement;
-        }, keyHolder);
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql, new String[]{"id"});
+                preparedStatement.setObject(1, reservation.getDate());
+                preparedStatement.setLong(2, reservation.getMemberId());
+                preparedStatement.setLong(3, reservation.getTimeId());
+                preparedStatement.setLong(4, reservation.getThemeId());
+                return preparedStatement;
+            }, keyHolder);
+        } catch (DuplicateKeyException exception) {
+            throw new IllegalRequestArgumentException("해당 시간대 해당 테마 예약은 이미 존재합니다.");
+        }
 
         Long id = keyHolder.getKey().longValue();
-        return readReservationById(id).orElseThrow(() -> new IllegalStateException("예약이 제대로 생성되지 않아 조회할 수 없습니다."));
+        return reservation.createWithId(id);
     }
 
     public void deleteReservation(Long id) {
@@ -0,0 +1,72 @@
+package roomescape.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import roomescape.domain.Member;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Role;
+import roomescape.domain.Theme;
+
+class ReservationRowMapper implements RowMapper<Reservation> {
+    private final Map<Long, Member> members = new HashMap<>();
+    private final Map<Long, ReservationTime> times = new HashMap<>();
+    private final Map<Long, Theme> themes = new HashMap<>();
+
+    @Override
+    public Reservation mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Reservation(
+                resultSet.getLong("id"),
+                resultSet.getObject("date", LocalDate.class),
+                readMember(resultSet),
+                readTime(resultSet),
+                readTheme(resultSet)
+        );
+    }
+
+    private Member readMember(ResultSet resultSet) throws SQLException {
+        long id = resultSet.getLong("member_id");
+        Member member = members.get(id);
+        if (member == null) {
+            member = new Member(
+                    id,
+                    resultSet.getString("member_name"),
+                    resultSet.getString("email"),
+                    null,
+                    Role.valueOf(resultSet.getString("role")));
+            members.put(id, member);
+        }
+        return member;
+    }
+
+    private ReservationTime readTime(ResultSet resultSet) throws SQLException {
+        long id = resultSet.getLong("time_id");
+        ReservationTime time = times.get(id);
+        if (time == null) {
+            time = new ReservationTime(id, resultSet.getObject("start_at", LocalTime.class));
+            times.put(id, time);
+        }
+        return time;
+    }
+
+    private Theme readTheme(ResultSet resultSet) throws SQLException {
+        long id = resultSet.getLong("theme_id");
+        Theme theme = themes.get(id);
+        if (theme == null) {
+            theme = new Theme(
+                    id,
+                    resultSet.getString("theme_name"),
+                    resultSet.getString("description"),
+                    resultSet.getString("thumbnail"));
+            themes.put(id, theme);
+        }
+        return theme;
+    }
+}
@@ -0,0 +1,64 @@
+package roomescape.dao;
+
+import java.time.LocalDate;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ThemeDailyCountDao {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ThemeDailyCountDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long readCount(Long themeId, LocalDate date) {
+        String sql = """
+                SELECT COALESCE(SUM(count), 0)
+                FROM theme_daily_count
+                WHERE theme_id = ? AND date = ?
+                """;
+        return jdbcTemplate.queryForObject(sql, Long.class, themeId, date);
+    }
+
+    public void increaseCount(Long themeId, LocalDate date) {
+        String sql = """
+                MERGE INTO theme_daily_count
+                USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE))) AS increased (theme_id, date)
+                ON theme_daily_count.theme_id = increased.theme_id AND theme_daily_count.date = increased.date
+                WHEN MATCHED THEN UPDATE SET count = theme_daily_count.count + 1
+                WHEN NOT MATCHED THEN INSERT (theme_id, date, count) VALUES (increased.theme_id, increased.date, 1)
+                """;
+        jdbcTemplate.update(sql, themeId, date);
+    }
+
+    public void decreaseCountByReservationId(Long reservationId) {
+        String sql = """
+                UPDATE theme_daily_count
+                SET count = count - 1
+                WHERE theme_id = (SELECT theme_id FROM reservation WHERE id = ?)
+                AND date = (SELECT date FROM reservation WHERE id = ?)
+                """;
+        jdbcTemplate.update(sql, reservationId, reservationId);
+
+        String cleanUpSql = """
+                DELETE FROM theme_daily_count
+                WHERE theme_id = (SELECT theme_id FROM reservation WHERE id = ?)
+                AND date = (SELECT date FROM reservation WHERE id = ?)
+                AND count <= 0
+                """;
+        jdbcTemplate.update(cleanUpSql, reservationId, reservationId);
+    }
+
+    public void rebuildCounts() {
+        jdbcTemplate.update("DELETE FROM theme_daily_count");
+        String sql = """
+                INSERT INTO theme_daily_count (theme_id, date, count)
+                SELECT theme_id, date, COUNT(*)
+                FROM reservation
+                GROUP BY theme_id, date
+                """;
+        jdbcTemplate.update(sql);
+    }
+}
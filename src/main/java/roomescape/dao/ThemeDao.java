@@ -2,16 +2,18 @@ package roomescape.dao;
 
 import java.sql.PreparedStatement;
 import java.util.List;
-import java.util.Optional;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import roomescape.config.CacheConfiguration;
 import roomescape.domain.Theme;
+import roomescape.domain.exception.IllegalRequestArgumentException;
 
 @Repository
 public class ThemeDao {
@@ -28,6 +30,7 @@ public class ThemeDao {
         );
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.THEMES, key = "'all'")
     public List<Theme> readThemes() {
         String sql = """
                 SELECT id, name, description, thumbnail
@@ -36,22 +39,13 @@ public class ThemeDao {
         return jdbcTemplate.query(sql, rowMapper);
     }
 
-    public Optional<Theme> readThemeById(Long id) {
-        String sql = "SELECT id, name, description, thumbnail FROM theme WHERE id = ?";
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, id));
-        } catch (EmptyResultDataAccessException exception) {
-            return Optional.empty();
-        }
-    }
-
     public List<Theme> readThemesRankingOfReservation(String startDate, String endDate) {
         String sql = """
-                SELECT theme.id, theme.name, theme.description, theme.thumbnail, COUNT(reservation.theme_id) AS reservation_count
-                FROM theme
-                JOIN reservation
-                ON reservation.theme_id = theme.id
-                WHERE reservation.date >= ? AND reservation.date <= ?
+                SELECT theme.id, theme.name, theme.description, theme.thumbnail, SUM(theme_daily_count.count) AS reservation_count
+                FROM theme_daily_count
+                JOIN theme
+                ON theme_daily_count.theme_id = theme.id
+                WHERE theme_daily_count.date >= ? AND theme_daily_count.date <= ?
                 GROUP BY theme.id, theme.name, theme.description, theme.thumbnail
                 ORDER BY reservation_count DESC
                 LIMIT 10
@@ -89,6 +83,10 @@ public class ThemeDao {
 
     public void deleteTheme(Long id) {
         String sql = "DELETE FROM theme WHERE id = ?";
-        jdbcTemplate.update(sql, id);
+        try {
+            jdbcTemplate.update(sql, id);
+        } catch (DataIntegrityViolationException exception) {
+            throw new IllegalRequestArgumentException("해당 테마를 사용하는 예약이 존재합니다.");
+        }
     }
 }
@@ -1,23 +1,32 @@
 package roomescape.dao;
 
 import java.sql.PreparedStatement;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import roomescape.config.CacheConfiguration;
+import roomescape.domain.AvailableTime;
 import roomescape.domain.ReservationTime;
+import roomescape.domain.exception.IllegalRequestArgumentException;
 
 @Repository
 public class TimeDao {
     private final JdbcTemplate jdbcTemplate;
     private final RowMapper<ReservationTime> rowMapper;
+    private final RowMapper<AvailableTime> availableTimeRowMapper;
 
     public TimeDao(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
@@ -25,33 +34,56 @@ public class TimeDao {
                 resultSet.getLong("id"),
                 resultSet.getObject("start_at", LocalTime.class)
         );
+        this.availableTimeRowMapper = (resultSet, rowNum) -> new AvailableTime(
+                rowMapper.mapRow(resultSet, rowNum),
+                resultSet.getBoolean("already_booked")
+        );
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TIMES, key = "'all'")
     public List<ReservationTime> readTimes() {
         String sql = "SELECT id, start_at FROM reservation_time";
         return jdbcTemplate.query(sql, rowMapper);
     }
 
-    public List<ReservationTime> readTimesExistsReservation(String date, Long themeId) {
+    public List<AvailableTime> readAvailableTimes(LocalDate date, Long themeId) {
         String sql = """
-                SELECT id, start_at 
+                SELECT reservation_time.id, reservation_time.start_at, reservation.id IS NOT NULL AS already_booked
                 FROM reservation_time
-                WHERE id IN (
-                    SELECT time_id
-                    FROM reservation
-                    WHERE date = ? AND theme_id = ?
-                )
+                LEFT JOIN reservation
+                ON reservation.time_id = reservation_time.id AND reservation.date = ? AND reservation.theme_id = ?
+                ORDER BY reservation_time.start_at
                 """;
-        return jdbcTemplate.query(sql, rowMapper, date, themeId);
+        return jdbcTemplate.query(sql, availableTimeRowMapper, date, themeId);
     }
 
-    public Optional<ReservationTime> readTimeById(Long id) {
-        String sql = "SELECT id, start_at FROM reservation_time WHERE id = ?";
-        try {
-            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, rowMapper, id));
-        } catch (EmptyResultDataAccessException exception) {
-            return Optional.empty();
-        }
+    public Map<LocalDate, Set<Long>> readBookedTimeIds(Long themeId, LocalDate from, LocalDate to) {
+        String sql = """
+                SELECT date, time_id
+                FROM reservation
+                WHERE theme_id = ? AND date >= ? AND date <= ?
+                """;
+        Map<LocalDate, Set<Long>> bookedTimeIds = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            LocalDate date = resultSet.getObject("date", LocalDate.class);
+            bookedTimeIds.computeIfAbsent(date, key -> new HashSet<>())
+                    .add(resultSet.getLong("time_id"));
+        }, themeId, from, to);
+        return bookedTimeIds;
+    }
+
+    public Map<Long, Set<Long>> readBookedTimeIdsByTheme(LocalDate date) {
+        String sql = """
+                SELECT theme_id, time_id
+                FROM reservation
+                WHERE date = ?
+                """;
+        Map<Long, Set<Long>> bookedTimeIds = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            bookedTimeIds.computeIfAbsent(resultSet.getLong("theme_id"), key -> new HashSet<>())
+                    .add(resultSet.getLong("time_id"));
+        }, date);
+        return bookedTimeIds;
     }
 
     public boolean existsTimeByStartAt(String startAt) {
@@ -81,6 +113,10 @@ public class TimeDao {
 
     public void deleteTime(Long id) {
         String sql = "DELETE FROM reservation_time WHERE id = ?";
-        jdbcTemplate.update(sql, id);
+        try {
+            jdbcTemplate.update(sql, id);
+        } catch (DataIntegrityViolationException exception) {
+            throw new IllegalRequestArgumentException("해당 시간을 사용하는 예약이 존재합니다.");
+        }
     }
 }
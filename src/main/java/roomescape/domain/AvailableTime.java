@@ -0,0 +1,38 @@
+package roomescape.domain;
+
+import java.util.Objects;
+
+import roomescape.domain.util.Validator;
+
+public class AvailableTime {
+    private final ReservationTime time;
+    private final boolean alreadyBooked;
+
+    public AvailableTime(ReservationTime time, boolean alreadyBooked) {
+        Validator.nonNull(time);
+
+        this.time = time;
+        this.alreadyBooked = alreadyBooked;
+    }
+
+    public ReservationTime getTime() {
+        return time;
+    }
+
+    public boolean isAlreadyBooked() {
+        return alreadyBooked;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AvailableTime that = (AvailableTime) o;
+        return alreadyBooked == that.alreadyBooked && Objects.equals(time, that.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, alreadyBooked);
+    }
+}
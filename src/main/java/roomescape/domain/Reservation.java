@@ -28,6 +28,10 @@ public class Reservation {
         this.theme = theme;
     }
 
+    public Reservation createWithId(Long id) {
+        return new Reservation(id, date, member, time, theme);
+    }
+
     public boolean isBefore(LocalDateTime currentDateTime) {
         LocalDate currentDate = currentDateTime.toLocalDate();
         if (date.isBefore(currentDate)) {
@@ -0,0 +1,33 @@
+package roomescape.domain;
+
+import java.util.Optional;
+
+public class ReservationCandidate {
+    private final ReservationTime time;
+    private final Theme theme;
+    private final Member member;
+    private final boolean alreadyBooked;
+
+    public ReservationCandidate(ReservationTime time, Theme theme, Member member, boolean alreadyBooked) {
+        this.time = time;
+        this.theme = theme;
+        this.member = member;
+        this.alreadyBooked = alreadyBooked;
+    }
+
+    public Optional<ReservationTime> getTime() {
+        return Optional.ofNullable(time);
+    }
+
+    public Optional<Theme> getTheme() {
+        return Optional.ofNullable(theme);
+    }
+
+    public Optional<Member> getMember() {
+        return Optional.ofNullable(member);
+    }
+
+    public boolean isAlreadyBooked() {
+        return alreadyBooked;
+    }
+}
@@ -0,0 +1,77 @@
+package roomescape.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+import roomescape.domain.util.Validator;
+
+public class ReservationSummary {
+    private final Long id;
+    private final LocalDate date;
+    private final Long memberId;
+    private final String memberName;
+    private final Long timeId;
+    private final LocalTime startAt;
+    private final Long themeId;
+    private final String themeName;
+
+    public ReservationSummary(Long id, LocalDate date, Long memberId, String memberName,
+                              Long timeId, LocalTime startAt, Long themeId, String themeName) {
+        Validator.nonNull(id, date, memberId, memberName, timeId, startAt, themeId, themeName);
+
+        this.id = id;
+        this.date = date;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.timeId = timeId;
+        this.startAt = startAt;
+        this.themeId = themeId;
+        this.themeName = themeName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public LocalTime getStartAt() {
+        return startAt;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public String getThemeName() {
+        return themeName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReservationSummary that = (ReservationSummary) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
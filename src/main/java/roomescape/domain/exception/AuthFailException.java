@@ -8,4 +8,9 @@ public class AuthFailException extends RuntimeException {
     public AuthFailException(String s) {
         super(s);
     }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
 }
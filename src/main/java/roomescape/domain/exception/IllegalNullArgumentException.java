@@ -4,4 +4,9 @@ public class IllegalNullArgumentException extends IllegalArgumentException {
     public IllegalNullArgumentException() {
         super("입력되지 않은 null 값이 존재합니다.");
     }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
 }
@@ -1,21 +1,41 @@
 package roomescape.domain.infrastructure;
 
+import java.security.Key;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.bind.DatatypeConverter;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import roomescape.domain.Role;
+import roomescape.domain.exception.AuthFailException;
 import roomescape.dto.MemberModel;
+import roomescape.dto.request.LoginMember;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${security.jwt.token.secret-key}")
-    private String secretKey;
-    @Value("${security.jwt.token.expire-length}")
-    private long validityInMilliseconds;
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final Key signingKey;
+    private final long validityInMilliseconds;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenProvider(@Value("${security.jwt.token.secret-key}") String secretKey,
+                            @Value("${security.jwt.token.expire-length}") long validityInMilliseconds,
+                            VerifiedTokenCache verifiedTokenCache) {
+        byte[] keyBytes = DatatypeConverter.parseBase64Binary(secretKey);
+        this.signingKey = new SecretKeySpec(keyBytes, SIGNATURE_ALGORITHM.getJcaName());
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
     public String createToken(MemberModel member) {
         Date now = new Date();
@@ -24,29 +44,47 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setSubject(member.id().toString())
                 .claim("name", member.name())
+                .claim("email", member.email())
                 .claim("role", member.role())
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SIGNATURE_ALGORITHM, signingKey)
                 .compact();
     }
 
-    public Long findTokenSubject(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
+    public LoginMember parseToken(String token) {
+        return verifiedTokenCache.get(token)
+                .orElseGet(() -> parseAndCacheToken(token));
+    }
 
-        return Long.valueOf(claims.getSubject());
+    private LoginMember parseAndCacheToken(String token) {
+        Claims claims = parseClaims(token);
+        LoginMember loginMember = new LoginMember(
+                Long.valueOf(claims.getSubject()),
+                claims.get("name", String.class),
+                claims.get("email", String.class),
+                Role.valueOf(claims.get("role", String.class)),
+                toLocalDateTime(claims.getIssuedAt())
+        );
+        verifiedTokenCache.put(token, loginMember, claims.getExpiration());
+        return loginMember;
     }
 
-    public String findTokenRole(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
+    private LocalDateTime toLocalDateTime(Date date) {
+        if (date == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
 
-        return claims.get("role", String.class);
+    private Claims parseClaims(String token) {
+        try {
+            return Jwts.parser()
+                    .setSigningKey(signingKey)
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException exception) {
+            throw new AuthFailException();
+        }
     }
 }
-
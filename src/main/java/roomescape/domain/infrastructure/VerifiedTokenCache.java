@@ -0,0 +1,145 @@
+package roomescape.domain.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import roomescape.domain.TimeProvider.TimeProvider;
+import roomescape.dto.request.LoginMember;
+
+@Component
+public class VerifiedTokenCache {
+    private static final int STRIPE_COUNT = 16;
+
+    private final int maxSize;
+    private final TimeProvider timeProvider;
+    private final Stripe[] stripes;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${security.jwt.token.cache.max-size:0}") int maxSize, TimeProvider timeProvider) {
+        this.maxSize = Math.max(maxSize, 0);
+        this.timeProvider = timeProvider;
+        this.stripes = new Stripe[STRIPE_COUNT];
+        int stripeSize = (this.maxSize + STRIPE_COUNT - 1) / STRIPE_COUNT;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(stripeSize);
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public Optional<LoginMember> get(String token) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        Entry entry = stripeOf(digest).get(digest, timeProvider.getCurrentDateTime());
+        if (entry == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        hitCount.increment();
+        return Optional.of(entry.loginMember());
+    }
+
+    public void put(String token, LoginMember loginMember, Date expiration) {
+        if (!isEnabled() || expiration == null) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        String digest = digest(token);
+        stripeOf(digest).put(digest, new Entry(loginMember, expiresAt));
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    private Stripe stripeOf(String digest) {
+        return stripes[Math.floorMod(digest.hashCode(), STRIPE_COUNT)];
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private record Entry(LoginMember loginMember, LocalDateTime expiresAt) {
+        private boolean isExpired(LocalDateTime currentDateTime) {
+            return !currentDateTime.isBefore(expiresAt);
+        }
+    }
+
+    private static class Stripe {
+        private final Map<String, Entry> store;
+
+        private Stripe(int maxSize) {
+            this.store = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        private synchronized Entry get(String digest, LocalDateTime currentDateTime) {
+            Entry entry = store.get(digest);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(currentDateTime)) {
+                store.remove(digest);
+                return null;
+            }
+            return entry;
+        }
+
+        private synchronized void put(String digest, Entry entry) {
+            store.put(digest, entry);
+        }
+
+        private synchronized void clear() {
+            store.clear();
+        }
+
+        private synchronized int size() {
+            return store.size();
+        }
+    }
+}
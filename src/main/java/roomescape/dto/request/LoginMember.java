@@ -1,4 +1,11 @@
 package roomescape.dto.request;
 
-public record LoginMember(Long id) {
+import java.time.LocalDateTime;
+
+import roomescape.domain.Role;
+
+public record LoginMember(Long id, String name, String email, Role role, LocalDateTime issuedAt) {
+    public boolean isAdmin() {
+        return role.isAdmin();
+    }
 }
@@ -0,0 +1,39 @@
+package roomescape.dto.request;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationSummary;
+import roomescape.domain.exception.IllegalRequestArgumentException;
+
+public record ReservationCursor(LocalDate date, Long timeId, Long id) {
+    private static final String DELIMITER = "_";
+
+    public static ReservationCursor from(Reservation reservation) {
+        return new ReservationCursor(reservation.getDate(), reservation.getTimeId(), reservation.getId());
+    }
+
+    public static ReservationCursor from(ReservationSummary reservation) {
+        return new ReservationCursor(reservation.getDate(), reservation.getTimeId(), reservation.getId());
+    }
+
+    public static ReservationCursor parse(String value) {
+        String[] tokens = value.split(DELIMITER);
+        if (tokens.length != 3) {
+            throw new IllegalRequestArgumentException("커서(%s)가 올바르지 않습니다.".formatted(value));
+        }
+        try {
+            return new ReservationCursor(
+                    LocalDate.parse(tokens[0]),
+                    Long.valueOf(tokens[1]),
+                    Long.valueOf(tokens[2]));
+        } catch (DateTimeParseException | NumberFormatException exception) {
+            throw new IllegalRequestArgumentException("커서(%s)가 올바르지 않습니다.".formatted(value));
+        }
+    }
+
+    public String format() {
+        return String.join(DELIMITER, date.toString(), timeId.toString(), id.toString());
+    }
+}
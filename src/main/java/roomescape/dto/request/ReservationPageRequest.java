@@ -0,0 +1,25 @@
+package roomescape.dto.request;
+
+import java.time.LocalDate;
+
+import roomescape.domain.exception.IllegalRequestArgumentException;
+
+public record ReservationPageRequest(Long themeId,
+                                     LocalDate dateFrom,
+                                     LocalDate dateTo,
+                                     ReservationCursor cursor,
+                                     int size) {
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 100;
+
+    public ReservationPageRequest {
+        if (size < 1) {
+            throw new IllegalRequestArgumentException("페이지 크기(%d)는 1 이상이어야 합니다.".formatted(size));
+        }
+        size = Math.min(size, MAX_SIZE);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+}
@@ -0,0 +1,27 @@
+package roomescape.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
+
+public record AvailabilityMatrixResponse(@JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                         List<TimeResponse> times,
+                                         List<ThemeAvailabilityResponse> themes) {
+    public static AvailabilityMatrixResponse of(LocalDate date, List<Theme> themes, List<ReservationTime> times,
+                                                Map<Long, Set<Long>> bookedTimeIdsByTheme) {
+        List<TimeResponse> timeResponses = times.stream()
+                .map(TimeResponse::from)
+                .toList();
+        List<ThemeAvailabilityResponse> themeResponses = themes.stream()
+                .map(theme -> ThemeAvailabilityResponse.of(
+                        theme, times, bookedTimeIdsByTheme.getOrDefault(theme.getId(), Set.of())))
+                .toList();
+        return new AvailabilityMatrixResponse(date, timeResponses, themeResponses);
+    }
+}
@@ -0,0 +1,19 @@
+package roomescape.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import roomescape.domain.ReservationTime;
+
+public record AvailableDateResponse(@JsonFormat(pattern = "yyyy-MM-dd") LocalDate date, List<Long> availableTimeIds) {
+    public static AvailableDateResponse of(LocalDate date, List<ReservationTime> times, Set<Long> bookedTimeIds) {
+        List<Long> availableTimeIds = times.stream()
+                .map(ReservationTime::getId)
+                .filter(id -> !bookedTimeIds.contains(id))
+                .toList();
+        return new AvailableDateResponse(date, availableTimeIds);
+    }
+}
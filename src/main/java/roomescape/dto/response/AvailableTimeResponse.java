@@ -1,9 +1,14 @@
 package roomescape.dto.response;
 
+import roomescape.domain.AvailableTime;
 import roomescape.domain.ReservationTime;
 
 public record AvailableTimeResponse(TimeResponse time, boolean alreadyBooked) {
     public static AvailableTimeResponse of(ReservationTime time, boolean alreadyBooked) {
         return new AvailableTimeResponse(TimeResponse.from(time), alreadyBooked);
     }
+
+    public static AvailableTimeResponse from(AvailableTime availableTime) {
+        return of(availableTime.getTime(), availableTime.isAlreadyBooked());
+    }
 }
@@ -0,0 +1,20 @@
+package roomescape.dto.response;
+
+import roomescape.config.cache.BoundedCache;
+import roomescape.domain.infrastructure.VerifiedTokenCache;
+
+public record CacheStatsResponse(String name, int size, long hitCount, long missCount, double hitRate) {
+    public static CacheStatsResponse from(BoundedCache cache) {
+        return of(cache.getName(), cache.size(), cache.hitCount(), cache.missCount());
+    }
+
+    public static CacheStatsResponse from(VerifiedTokenCache cache) {
+        return of("verifiedTokens", cache.size(), cache.hitCount(), cache.missCount());
+    }
+
+    private static CacheStatsResponse of(String name, int size, long hitCount, long missCount) {
+        long requestCount = hitCount + missCount;
+        double hitRate = requestCount == 0 ? 0 : (double) hitCount / requestCount;
+        return new CacheStatsResponse(name, size, hitCount, missCount, hitRate);
+    }
+}
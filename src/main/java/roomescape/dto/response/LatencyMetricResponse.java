@@ -0,0 +1,28 @@
+package roomescape.dto.response;
+
+import roomescape.config.metrics.LatencyHistogram;
+import roomescape.config.metrics.LatencyMetrics;
+
+public record LatencyMetricResponse(String name,
+                                    String outcome,
+                                    long count,
+                                    double meanMicros,
+                                    double p50Micros,
+                                    double p99Micros,
+                                    double maxMicros) {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    public static LatencyMetricResponse from(LatencyMetrics.Entry entry) {
+        LatencyHistogram histogram = entry.histogram();
+        long count = histogram.count();
+        double mean = count == 0 ? 0 : (double) histogram.totalNanos() / count;
+        return new LatencyMetricResponse(
+                entry.name(),
+                entry.outcome(),
+                count,
+                mean / NANOS_PER_MICRO,
+                histogram.percentileNanos(0.5) / NANOS_PER_MICRO,
+                histogram.percentileNanos(0.99) / NANOS_PER_MICRO,
+                histogram.maxNanos() / NANOS_PER_MICRO);
+    }
+}
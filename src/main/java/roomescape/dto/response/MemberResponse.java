@@ -2,9 +2,14 @@ package roomescape.dto.response;
 
 import roomescape.domain.Member;
 import roomescape.domain.Role;
+import roomescape.dto.request.LoginMember;
 
 public record MemberResponse(Long id, String name, String email, Role role) {
     public static MemberResponse from(Member member) {
         return new MemberResponse(member.getId(), member.getName(), member.getEmail(), member.getRole());
     }
+
+    public static MemberResponse from(LoginMember member) {
+        return new MemberResponse(member.id(), member.name(), member.email(), member.role());
+    }
 }
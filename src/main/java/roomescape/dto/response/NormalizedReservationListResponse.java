@@ -0,0 +1,30 @@
+package roomescape.dto.response;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import roomescape.domain.Reservation;
+import roomescape.dto.MemberModel;
+
+public record NormalizedReservationListResponse(List<NormalizedReservationResponse> reservations,
+                                                Map<Long, MemberModel> members,
+                                                Map<Long, TimeResponse> times,
+                                                Map<Long, ThemeResponse> themes,
+                                                String nextCursor) {
+    public static NormalizedReservationListResponse of(List<Reservation> reservations, String nextCursor) {
+        Map<Long, MemberModel> members = new LinkedHashMap<>();
+        Map<Long, TimeResponse> times = new LinkedHashMap<>();
+        Map<Long, ThemeResponse> themes = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            members.computeIfAbsent(reservation.getMemberId(), id -> MemberModel.from(reservation.getMember()));
+            times.computeIfAbsent(reservation.getTimeId(), id -> TimeResponse.from(reservation.getTime()));
+            themes.computeIfAbsent(reservation.getThemeId(), id -> ThemeResponse.from(reservation.getTheme()));
+        }
+
+        List<NormalizedReservationResponse> responses = reservations.stream()
+                .map(NormalizedReservationResponse::from)
+                .toList();
+        return new NormalizedReservationListResponse(responses, members, times, themes, nextCursor);
+    }
+}
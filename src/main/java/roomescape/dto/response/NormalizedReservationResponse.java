@@ -0,0 +1,20 @@
+package roomescape.dto.response;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import roomescape.domain.Reservation;
+
+public record NormalizedReservationResponse(Long id,
+                                            @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                            Long memberId, Long timeId, Long themeId) {
+    public static NormalizedReservationResponse from(Reservation reservation) {
+        return new NormalizedReservationResponse(
+                reservation.getId(),
+                reservation.getDate(),
+                reservation.getMemberId(),
+                reservation.getTimeId(),
+                reservation.getThemeId());
+    }
+}
@@ -0,0 +1,14 @@
+package roomescape.dto.response;
+
+import java.util.List;
+
+import roomescape.domain.Reservation;
+
+public record ReservationPageResponse(List<ReservationResponse> reservations, String nextCursor) {
+    public static ReservationPageResponse of(List<Reservation> reservations, String nextCursor) {
+        List<ReservationResponse> responses = reservations.stream()
+                .map(ReservationResponse::from)
+                .toList();
+        return new ReservationPageResponse(responses, nextCursor);
+    }
+}
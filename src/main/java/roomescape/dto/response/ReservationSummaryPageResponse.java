@@ -0,0 +1,14 @@
+package roomescape.dto.response;
+
+import java.util.List;
+
+import roomescape.domain.ReservationSummary;
+
+public record ReservationSummaryPageResponse(List<ReservationSummaryResponse> reservations, String nextCursor) {
+    public static ReservationSummaryPageResponse of(List<ReservationSummary> reservations, String nextCursor) {
+        List<ReservationSummaryResponse> responses = reservations.stream()
+                .map(ReservationSummaryResponse::from)
+                .toList();
+        return new ReservationSummaryPageResponse(responses, nextCursor);
+    }
+}
@@ -0,0 +1,29 @@
+package roomescape.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import roomescape.domain.ReservationSummary;
+
+public record ReservationSummaryResponse(Long id,
+                                         @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+                                         Long memberId,
+                                         String memberName,
+                                         Long timeId,
+                                         @JsonFormat(pattern = "HH:mm") LocalTime startAt,
+                                         Long themeId,
+                                         String themeName) {
+    public static ReservationSummaryResponse from(ReservationSummary reservation) {
+        return new ReservationSummaryResponse(
+                reservation.getId(),
+                reservation.getDate(),
+                reservation.getMemberId(),
+                reservation.getMemberName(),
+                reservation.getTimeId(),
+                reservation.getStartAt(),
+                reservation.getThemeId(),
+                reservation.getThemeName());
+    }
+}
@@ -0,0 +1,22 @@
+package roomescape.dto.response;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
+
+public record ThemeAvailabilityResponse(Long id, String name, String bookedTimes) {
+    public static ThemeAvailabilityResponse of(Theme theme, List<ReservationTime> times, Set<Long> bookedTimeIds) {
+        BitSet booked = new BitSet(times.size());
+        for (int index = 0; index < times.size(); index++) {
+            if (bookedTimeIds.contains(times.get(index).getId())) {
+                booked.set(index);
+            }
+        }
+        String encoded = Base64.getEncoder().encodeToString(booked.toByteArray());
+        return new ThemeAvailabilityResponse(theme.getId(), theme.getName(), encoded);
+    }
+}
@@ -0,0 +1,92 @@
+package roomescape.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import roomescape.dao.ThemeDao;
+import roomescape.domain.TimeProvider.TimeProvider;
+import roomescape.dto.response.ThemeResponse;
+
+@Component
+public class PopularThemeRanking {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int MAX_DAYS_TO_SUBTRACT = 7;
+    private static final int MIN_DAYS_TO_SUBTRACT = 1;
+
+    private final TimeProvider timeProvider;
+    private final ThemeDao themeDao;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public PopularThemeRanking(TimeProvider timeProvider, ThemeDao themeDao) {
+        this.timeProvider = timeProvider;
+        this.themeDao = themeDao;
+    }
+
+    public List<ThemeResponse> readPopularThemes() {
+        LocalDate currentDate = timeProvider.getCurrentDateTime().toLocalDate();
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(currentDate, version.get())) {
+            return current.themes();
+        }
+        return refresh(currentDate).themes();
+    }
+
+    private synchronized Snapshot refresh(LocalDate currentDate) {
+        long currentVersion = version.get();
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(currentDate, currentVersion)) {
+            return current;
+        }
+
+        LocalDate startDate = currentDate.minusDays(MAX_DAYS_TO_SUBTRACT);
+        LocalDate endDate = currentDate.minusDays(MIN_DAYS_TO_SUBTRACT);
+        List<ThemeResponse> themes = themeDao.readThemesRankingOfReservation(
+                        startDate.format(DATE_FORMATTER), endDate.format(DATE_FORMATTER))
+                .stream()
+                .map(ThemeResponse::from)
+                .toList();
+
+        Snapshot refreshed = new Snapshot(currentDate, startDate, endDate, currentVersion, themes);
+        snapshot = refreshed;
+        return refreshed;
+    }
+
+    public void invalidate(LocalDate reservationDate) {
+        LocalDate currentDate = timeProvider.getCurrentDateTime().toLocalDate();
+        Snapshot current = snapshot;
+        if (current == null || !current.computedDate().equals(currentDate) || current.contains(reservationDate)) {
+            invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    private record Snapshot(LocalDate computedDate, LocalDate startDate, LocalDate endDate, long version,
+                            List<ThemeResponse> themes) {
+        private boolean isValid(LocalDate currentDate, long currentVersion) {
+            return computedDate.equals(currentDate) && version == currentVersion;
+        }
+
+        private boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+}
@@ -1,44 +1,51 @@
 package roomescape.service;
 
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import roomescape.dao.MemberDao;
 import roomescape.dao.ReservationDao;
-import roomescape.dao.ThemeDao;
-import roomescape.dao.TimeDao;
+import roomescape.dao.ThemeDailyCountDao;
 import roomescape.domain.Member;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationCandidate;
+import roomescape.domain.ReservationSummary;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.Theme;
 import roomescape.domain.TimeProvider.TimeProvider;
 import roomescape.domain.exception.IllegalRequestArgumentException;
 import roomescape.dto.request.ReservationAdminCreateRequest;
+import roomescape.dto.request.ReservationCursor;
 import roomescape.dto.request.ReservationDetailRequest;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.NormalizedReservationListResponse;
+import roomescape.dto.response.ReservationPageResponse;
 import roomescape.dto.response.ReservationResponse;
+import roomescape.dto.response.ReservationSummaryPageResponse;
+import roomescape.dto.response.ReservationSummaryResponse;
 
 @Service
 public class ReservationService {
     private final TimeProvider timeProvider;
     private final ReservationDao reservationDao;
-    private final MemberDao memberDao;
-    private final TimeDao timeDao;
-    private final ThemeDao themeDao;
+    private final ThemeDailyCountDao themeDailyCountDao;
+    private final PopularThemeRanking popularThemeRanking;
 
-    public ReservationService(TimeProvider timeProvider, ReservationDao reservationDao, MemberDao memberDao, TimeDao timeDao, ThemeDao themeDao) {
+    public ReservationService(TimeProvider timeProvider, ReservationDao reservationDao,
+                              ThemeDailyCountDao themeDailyCountDao, PopularThemeRanking popularThemeRanking) {
         this.timeProvider = timeProvider;
         this.reservationDao = reservationDao;
-        this.memberDao = memberDao;
-        this.timeDao = timeDao;
-        this.themeDao = themeDao;
+        this.themeDailyCountDao = themeDailyCountDao;
+        this.popularThemeRanking = popularThemeRanking;
     }
 
-    public List<ReservationResponse> readReservations() {
-        return reservationDao.readReservations()
-                .stream()
-                .map(ReservationResponse::from)
-                .toList();
+    public ReservationPageResponse readReservations(ReservationPageRequest request) {
+        List<Reservation> reservations = reservationDao.readReservations(request, request.size() + 1);
+        return toPage(reservations, request.size(), ReservationCursor::from, ReservationPageResponse::of);
     }
 
     public List<ReservationResponse> readReservations(ReservationDetailRequest request) {
@@ -48,38 +55,119 @@ public class ReservationService {
                 .toList();
     }
 
+    public String readReservations(ReservationPageRequest request, Consumer<ReservationResponse> consumer) {
+        StreamedPage page = new StreamedPage(request.size(), consumer);
+        reservationDao.readReservations(request, request.size() + 1, page);
+        return page.nextCursor();
+    }
+
+    public void readReservations(ReservationDetailRequest request, Consumer<ReservationResponse> consumer) {
+        reservationDao.readReservationsByDetails(request,
+                reservation -> consumer.accept(ReservationResponse.from(reservation)));
+    }
+
+    public NormalizedReservationListResponse readNormalizedReservations(ReservationPageRequest request) {
+        List<Reservation> reservations = reservationDao.readReservations(request, request.size() + 1);
+        return toPage(reservations, request.size(), ReservationCursor::from, NormalizedReservationListResponse::of);
+    }
+
+    public NormalizedReservationListResponse readNormalizedReservations(ReservationDetailRequest request) {
+        return NormalizedReservationListResponse.of(reservationDao.readReservationsByDetails(request), null);
+    }
+
+    public ReservationSummaryPageResponse readReservationSummaries(ReservationPageRequest request) {
+        List<ReservationSummary> reservations = reservationDao.readReservationSummaries(request, request.size() + 1);
+        return toPage(reservations, request.size(), ReservationCursor::from, ReservationSummaryPageResponse::of);
+    }
+
+    public List<ReservationSummaryResponse> readReservationSummaries(ReservationDetailRequest request) {
+        return reservationDao.readReservationSummariesByDetails(request)
+                .stream()
+                .map(ReservationSummaryResponse::from)
+                .toList();
+    }
+
+    @Transactional
     public ReservationResponse createReservation(ReservationAdminCreateRequest dto) {
         Reservation reservation = createReservationFromDto(dto);
 
         Reservation createdReservation = reservationDao.createReservation(reservation);
+        themeDailyCountDao.increaseCount(createdReservation.getThemeId(), createdReservation.getDate());
+        popularThemeRanking.invalidate(createdReservation.getDate());
         return ReservationResponse.from(createdReservation);
     }
 
     private Reservation createReservationFromDto(ReservationAdminCreateRequest dto) {
-        ReservationTime time = timeDao.readTimeById(dto.timeId())
+        ReservationCandidate candidate = reservationDao.readReservationCandidate(
+                dto.date(), dto.timeId(), dto.themeId(), dto.memberId());
+        ReservationTime time = candidate.getTime()
                 .orElseThrow(() -> new IllegalRequestArgumentException("해당 예약 시간이 존재하지 않습니다."));
-        Theme theme = themeDao.readThemeById(dto.themeId())
+        Theme theme = candidate.getTheme()
                 .orElseThrow(() -> new IllegalRequestArgumentException("해당 테마가 존재하지 않습니다."));
-        Member member = memberDao.readMemberById(dto.memberId())
+        Member member = candidate.getMember()
                 .orElseThrow(() -> new IllegalRequestArgumentException("해당 사용자는 존재하지 않습니다."));
 
         Reservation reservation = dto.createReservation(member, time, theme);
-        validateAvailableReservation(reservation);
+        validateAvailableReservation(reservation, candidate);
         return reservation;
     }
 
-    private void validateAvailableReservation(Reservation reservation) {
+    private void validateAvailableReservation(Reservation reservation, ReservationCandidate candidate) {
         if (reservation.isBefore(timeProvider.getCurrentDateTime())) {
             throw new IllegalRequestArgumentException("예약은 현재 시간 이후여야 합니다.");
         }
-
-        if (reservationDao.existsReservationByDateAndTimeIdAndThemeId(
-                reservation.getDate(), reservation.getTimeId(), reservation.getThemeId())) {
+        if (candidate.isAlreadyBooked()) {
             throw new IllegalRequestArgumentException("해당 시간대 해당 테마 예약은 이미 존재합니다.");
         }
     }
 
+    @Transactional
     public void deleteReservation(Long id) {
+        reservationDao.readReservationDateById(id)
+                .ifPresent(popularThemeRanking::invalidate);
+        themeDailyCountDao.decreaseCountByReservationId(id);
         reservationDao.deleteReservation(id);
     }
+
+    private static <T, R> R toPage(List<T> reservations, int size, Function<T, ReservationCursor> cursorOf,
+                                   BiFunction<List<T>, String, R> responseOf) {
+        if (reservations.size() <= size) {
+            return responseOf.apply(reservations, null);
+        }
+
+        List<T> page = reservations.subList(0, size);
+        String nextCursor = cursorOf.apply(page.get(page.size() - 1)).format();
+        return responseOf.apply(page, nextCursor);
+    }
+
+    private static class StreamedPage implements Consumer<Reservation> {
+        private final int size;
+        private final Consumer<ReservationResponse> consumer;
+        private int count;
+        private Reservation last;
+        private boolean hasNext;
+
+        private StreamedPage(int size, Consumer<ReservationResponse> consumer) {
+            this.size = size;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(Reservation reservation) {
+            if (count == size) {
+                hasNext = true;
+                return;
+            }
+            consumer.accept(ReservationResponse.from(reservation));
+            last = reservation;
+            count++;
+        }
+
+        private String nextCursor() {
+            if (!hasNext) {
+                return null;
+            }
+            return ReservationCursor.from(last).format();
+        }
+    }
 }
@@ -1,12 +1,13 @@
 package roomescape.service;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import roomescape.dao.ReservationDao;
+import roomescape.config.CacheConfiguration;
+import roomescape.dao.ThemeDailyCountDao;
 import roomescape.dao.ThemeDao;
 import roomescape.domain.Theme;
 import roomescape.domain.exception.IllegalRequestArgumentException;
@@ -15,16 +16,14 @@ import roomescape.dto.response.ThemeResponse;
 
 @Service
 public class ThemeService {
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final int MAX_DAYS_TO_SUBTRACT = 7;
-    private static final int MIN_DAYS_TO_SUBTRACT = 1;
-
     private final ThemeDao themeDao;
-    private final ReservationDao reservationDao;
+    private final ThemeDailyCountDao themeDailyCountDao;
+    private final PopularThemeRanking popularThemeRanking;
 
-    public ThemeService(ThemeDao themeDao, ReservationDao reservationDao) {
+    public ThemeService(ThemeDao themeDao, ThemeDailyCountDao themeDailyCountDao, PopularThemeRanking popularThemeRanking) {
         this.themeDao = themeDao;
-        this.reservationDao = reservationDao;
+        this.themeDailyCountDao = themeDailyCountDao;
+        this.popularThemeRanking = popularThemeRanking;
     }
 
     public List<ThemeResponse> readThemes() {
@@ -34,15 +33,16 @@ public class ThemeService {
     }
 
     public List<ThemeResponse> readPopularThemes() {
-        LocalDate currentDate = LocalDate.now();
-        LocalDate startDate = currentDate.minusDays(MAX_DAYS_TO_SUBTRACT);
-        LocalDate endDate = currentDate.minusDays(MIN_DAYS_TO_SUBTRACT);
-        return themeDao.readThemesRankingOfReservation(startDate.format(DATE_FORMATTER), endDate.format(DATE_FORMATTER))
-                .stream()
-                .map(ThemeResponse::from)
-                .toList();
+        return popularThemeRanking.readPopularThemes();
     }
 
+    @Transactional
+    public void rebuildThemeDailyCounts() {
+        themeDailyCountDao.rebuildCounts();
+        popularThemeRanking.invalidateAll();
+    }
+
+    @CacheEvict(cacheNames = CacheConfiguration.THEMES, allEntries = true)
     public ThemeResponse createTheme(ThemeCreateRequest dto) {
         if (themeDao.existsThemeByName(dto.name())) {
             throw new IllegalRequestArgumentException("해당 테마 이름은 이미 존재합니다.");
@@ -51,10 +51,8 @@ public class ThemeService {
         return ThemeResponse.from(createdTheme);
     }
 
+    @CacheEvict(cacheNames = CacheConfiguration.THEMES, allEntries = true)
     public void deleteTheme(Long id) {
-        if (reservationDao.existsReservationByThemeId(id)) {
-            throw new IllegalRequestArgumentException("해당 테마를 사용하는 예약이 존재합니다.");
-        }
         themeDao.deleteTheme(id);
     }
 }
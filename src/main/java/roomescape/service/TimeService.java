@@ -1,26 +1,37 @@
 package roomescape.service;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
-import roomescape.dao.ReservationDao;
+import roomescape.config.CacheConfiguration;
+import roomescape.dao.ThemeDao;
 import roomescape.dao.TimeDao;
 import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
 import roomescape.domain.exception.IllegalRequestArgumentException;
 import roomescape.dto.request.TimeCreateRequest;
+import roomescape.dto.response.AvailabilityMatrixResponse;
+import roomescape.dto.response.AvailableDateResponse;
 import roomescape.dto.response.AvailableTimeResponse;
 import roomescape.dto.response.TimeResponse;
 
 @Service
 public class TimeService {
+    private static final int MAX_DATE_RANGE = 31;
+
     private final TimeDao timeDao;
-    private final ReservationDao reservationDao;
+    private final ThemeDao themeDao;
 
-    public TimeService(TimeDao timeDao, ReservationDao reservationDao) {
+    public TimeService(TimeDao timeDao, ThemeDao themeDao) {
         this.timeDao = timeDao;
-        this.reservationDao = reservationDao;
+        this.themeDao = themeDao;
     }
 
     public List<TimeResponse> readTimes() {
@@ -29,15 +40,40 @@ public class TimeService {
                 .toList();
     }
 
-    public List<AvailableTimeResponse> readAvailableTimes(String date, Long themeId) {
-        List<ReservationTime> allTime = timeDao.readTimes();
-        List<ReservationTime> alreadyBookedTime = timeDao.readTimesExistsReservation(date, themeId);
+    public List<AvailableTimeResponse> readAvailableTimes(LocalDate date, Long themeId) {
+        return timeDao.readAvailableTimes(date, themeId).stream()
+                .map(AvailableTimeResponse::from)
+                .toList();
+    }
+
+    public List<AvailableDateResponse> readAvailableDates(Long themeId, LocalDate from, LocalDate to) {
+        validateDateRange(from, to);
+        List<ReservationTime> times = timeDao.readTimes();
+        Map<LocalDate, Set<Long>> bookedTimeIds = timeDao.readBookedTimeIds(themeId, from, to);
 
-        return allTime.stream()
-                .map(time -> AvailableTimeResponse.of(time, alreadyBookedTime.contains(time)))
+        return from.datesUntil(to.plusDays(1))
+                .map(date -> AvailableDateResponse.of(date, times, bookedTimeIds.getOrDefault(date, Set.of())))
                 .toList();
     }
 
+    public AvailabilityMatrixResponse readAvailabilityMatrix(LocalDate date) {
+        List<Theme> themes = themeDao.readThemes();
+        List<ReservationTime> times = timeDao.readTimes();
+        Map<Long, Set<Long>> bookedTimeIdsByTheme = timeDao.readBookedTimeIdsByTheme(date);
+
+        return AvailabilityMatrixResponse.of(date, themes, times, bookedTimeIdsByTheme);
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalRequestArgumentException("시작 날짜(%s)가 종료 날짜(%s)보다 늦습니다.".formatted(from, to));
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DATE_RANGE) {
+            throw new IllegalRequestArgumentException("조회 기간은 최대 %d일입니다.".formatted(MAX_DATE_RANGE));
+        }
+    }
+
+    @CacheEvict(cacheNames = CacheConfiguration.TIMES, allEntries = true)
     public TimeResponse createTime(TimeCreateRequest dto) {
         if (timeDao.existsTimeByStartAt(DateTimeFormatter.ofPattern("HH:mm").format(dto.startAt()))) {
             throw new IllegalRequestArgumentException("해당 시간은 이미 존재합니다.");
@@ -46,10 +82,8 @@ public class TimeService {
         return TimeResponse.from(createdTime);
     }
 
+    @CacheEvict(cacheNames = CacheConfiguration.TIMES, allEntries = true)
     public void deleteTime(Long id) {
-        if (reservationDao.existsReservationByTimeId(id)) {
-            throw new IllegalRequestArgumentException("해당 시간을 사용하는 예약이 존재합니다.");
-        }
         timeDao.deleteTime(id);
     }
 }
@@ -1,23 +1,34 @@
 package roomescape.service;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import roomescape.domain.Role;
+import roomescape.domain.TimeProvider.TimeProvider;
 import roomescape.domain.exception.AuthFailException;
 import roomescape.domain.infrastructure.JwtTokenProvider;
 import roomescape.dto.MemberModel;
+import roomescape.dto.request.LoginMember;
 import roomescape.dto.response.TokenResponse;
 
 @Service
 public class TokenService {
+    private static final String LOGIN_MEMBER_ATTRIBUTE = LoginMember.class.getName();
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final TimeProvider timeProvider;
+    private final long freshnessInMilliseconds;
 
-    public TokenService(JwtTokenProvider jwtTokenProvider) {
+    public TokenService(JwtTokenProvider jwtTokenProvider, TimeProvider timeProvider,
+                        @Value("${security.jwt.token.freshness-length:0}") long freshnessInMilliseconds) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.timeProvider = timeProvider;
+        this.freshnessInMilliseconds = freshnessInMilliseconds;
     }
 
     public TokenResponse createToken(MemberModel member) {
@@ -25,18 +36,35 @@ public class TokenService {
         return new TokenResponse(accessToken);
     }
 
-    public Long findTokenId(Cookie[] cookies) {
-        String token = extractTokenFromCookie(cookies);
-        return jwtTokenProvider.findTokenSubject(token);
+    public LoginMember findLoginMember(HttpServletRequest request) {
+        if (request.getAttribute(LOGIN_MEMBER_ATTRIBUTE) instanceof LoginMember loginMember) {
+            return loginMember;
+        }
+
+        String token = extractTokenFromCookie(request.getCookies());
+        LoginMember loginMember = jwtTokenProvider.parseToken(token);
+        request.setAttribute(LOGIN_MEMBER_ATTRIBUTE, loginMember);
+        return loginMember;
     }
 
-    public Role findRole(Cookie[] cookies) {
-        String token = extractTokenFromCookie(cookies);
-        String role = jwtTokenProvider.findTokenRole(token);
-        return Role.valueOf(role);
+    public boolean isFresh(LoginMember loginMember) {
+        if (loginMember.email() == null) {
+            return false;
+        }
+        if (freshnessInMilliseconds <= 0) {
+            return true;
+        }
+        if (loginMember.issuedAt() == null) {
+            return false;
+        }
+        LocalDateTime staleAt = loginMember.issuedAt().plusNanos(freshnessInMilliseconds * 1_000_000);
+        return timeProvider.getCurrentDateTime().isBefore(staleAt);
     }
 
     private String extractTokenFromCookie(Cookie[] cookies) {
+        if (cookies == null) {
+            throw new AuthFailException("로그인 정보가 없습니다.");
+        }
         return Arrays.stream(cookies)
                 .filter(cookie -> cookie.getName().equals("token"))
                 .findAny()
@@ -32,11 +32,28 @@ CREATE TABLE reservation
     time_id   BIGINT       NOT NULL,
     theme_id  BIGINT       NOT NULL,
     PRIMARY KEY (id),
+    UNIQUE (date, time_id, theme_id),
     FOREIGN KEY (member_id) REFERENCES member (id),
     FOREIGN KEY (time_id) REFERENCES reservation_time (id),
     FOREIGN KEY (theme_id) REFERENCES theme (id)
 );
 
+CREATE INDEX reservation_date_time_id_idx ON reservation (date, time_id, id);
+CREATE INDEX reservation_theme_date_time_idx ON reservation (theme_id, date, time_id);
+CREATE INDEX reservation_member_date_idx ON reservation (member_id, date);
+CREATE INDEX reservation_time_idx ON reservation (time_id);
+
+CREATE TABLE theme_daily_count
+(
+    theme_id BIGINT NOT NULL,
+    date     DATE   NOT NULL,
+    count    BIGINT NOT NULL,
+    PRIMARY KEY (theme_id, date),
+    FOREIGN KEY (theme_id) REFERENCES theme (id)
+);
+
+CREATE INDEX theme_daily_count_date_idx ON theme_daily_count (date, theme_id, count);
+
 INSERT INTO member(name, email, password) VALUES ('켬미', 'aaa@naver.com', '1111');
 INSERT INTO member(name, email, password, role) VALUES ('관리자켬', 'bbb@naver.com', '1111', 'ADMIN');
 
@@ -65,3 +82,6 @@ INSERT INTO reservation(date, member_id, time_id, theme_id) VALUES (CURRENT_DATE
 INSERT INTO reservation(date, member_id, time_id, theme_id) VALUES (CURRENT_DATE - 2, 1, 1, 3);
 INSERT INTO reservation(date, member_id, time_id, theme_id) VALUES (CURRENT_DATE - 2, 1, 2, 3);
 INSERT INTO reservation(date, member_id, time_id, theme_id) VALUES (CURRENT_DATE - 1, 1, 1, 1);
+
+INSERT INTO theme_daily_count(theme_id, date, count)
+SELECT theme_id, date, COUNT(*) FROM reservation GROUP BY theme_id, date;
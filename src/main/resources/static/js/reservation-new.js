@@ -4,21 +4,21 @@ const TIME_API_ENDPOINT = '/times';
 const THEME_API_ENDPOINT = '/themes';
 const timesOptions = [];
 const themesOptions = [];
+let reservationPager;
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
+  reservationPager = createReservationPager(render);
+  reservationPager.load();
 
   fetchTimes();
   fetchThemes();
 });
 
-function render(data) {
+function render(data, reset = true) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+  if (reset) tableBody.innerHTML = '';
 
   data.forEach(item => {
     const row = tableBody.insertRow();
@@ -0,0 +1,41 @@
+const RESERVATION_PAGE_ENDPOINT = '/reservations';
+const RESERVATION_PAGE_SIZE = 20;
+
+function createReservationPager(onPage) {
+  const moreButton = document.getElementById('more-button');
+  let filter = {};
+  let cursor = null;
+
+  function fetchPage(reset) {
+    const params = new URLSearchParams({size: RESERVATION_PAGE_SIZE});
+    Object.entries(filter)
+        .filter(([, value]) => value)
+        .forEach(([name, value]) => params.append(name, value));
+    if (!reset) params.append('cursor', cursor);
+
+    return fetch(`${RESERVATION_PAGE_ENDPOINT}?${params}`)
+        .then(response => {
+          if (response.status === 200) return response.json();
+          throw new Error('Read failed');
+        })
+        .then(page => {
+          onPage(page.reservations, reset);
+          cursor = page.nextCursor;
+          moreButton.style.display = cursor === null ? 'none' : '';
+        })
+        .catch(error => console.error('Error fetching reservations:', error));
+  }
+
+  moreButton.addEventListener('click', () => fetchPage(false));
+
+  return {
+    load(newFilter = {}) {
+      filter = newFilter;
+      return fetchPage(true);
+    },
+    reset() {
+      cursor = null;
+      moreButton.style.display = 'none';
+    }
+  };
+}
@@ -7,23 +7,23 @@ const MEMBER_API_ENDPOINT = '/members';
 const timesOptions = [];
 const themesOptions = [];
 const membersOptions = [];
+let reservationPager;
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
   document.getElementById('filter-form').addEventListener('submit', applyFilter);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
+  reservationPager = createReservationPager(render);
+  reservationPager.load();
 
   fetchTimes();
   fetchThemes();
   fetchMembers();
 });
 
-function render(data) {
+function render(data, reset = true) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+  if (reset) tableBody.innerHTML = '';
 
   data.forEach(item => {
     const row = tableBody.insertRow();
@@ -193,10 +193,16 @@ function applyFilter(event) {
   const dateFrom = document.getElementById('date-from').value;
   const dateTo = document.getElementById('date-to').value;
 
+  if (!memberId) {
+    reservationPager.load({themeId, dateFrom, dateTo});
+    return;
+  }
+
   /*
   TODO: [6단계] 예약 검색 - 조건에 따른 예약 조회 API 호출
         요청 포맷에 맞게 설정
   */
+  reservationPager.reset();
   fetch(RESERVATION_DETAIL_API_ENDPOINT + `?themeId=${themeId}&memberId=${memberId}&dateFrom=${dateFrom}&dateTo=${dateTo}`, { // 예약 검색 API 호출
     method: 'GET',
     headers: {
@@ -0,0 +1,20 @@
+package roomescape.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import roomescape.service.PopularThemeRanking;
+
+public class CacheClearTestExecutionListener extends AbstractTestExecutionListener {
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        testContext.getApplicationContext()
+                .getBeanProvider(CacheManager.class)
+                .ifAvailable(cacheManager -> cacheManager.getCacheNames()
+                        .forEach(name -> cacheManager.getCache(name).clear()));
+        testContext.getApplicationContext()
+                .getBeanProvider(PopularThemeRanking.class)
+                .ifAvailable(PopularThemeRanking::invalidateAll);
+    }
+}
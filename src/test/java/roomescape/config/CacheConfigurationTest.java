@@ -0,0 +1,93 @@
+package roomescape.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import roomescape.config.cache.BoundedCache;
+import roomescape.dto.request.ThemeCreateRequest;
+import roomescape.dto.request.TimeCreateRequest;
+import roomescape.dto.response.ThemeResponse;
+import roomescape.dto.response.TimeResponse;
+import roomescape.service.ThemeService;
+import roomescape.service.TimeService;
+
+@SpringBootTest
+@Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class CacheConfigurationTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TimeService timeService;
+    @Autowired
+    private ThemeService themeService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO reservation_time (start_at) VALUES ('10:00')");
+        jdbcTemplate.update("INSERT INTO theme (name, description, thumbnail) VALUES ('테마1', '설명1' ,'https://image.jpg')");
+    }
+
+    @DisplayName("같은 시간 목록을 다시 읽으면 캐시에서 읽는다.")
+    @Test
+    void readTimes_whenCached() {
+        BoundedCache cache = (BoundedCache) cacheManager.getCache(CacheConfiguration.TIMES);
+        long missCount = cache.missCount();
+        long hitCount = cache.hitCount();
+
+        timeService.readTimes();
+        timeService.readTimes();
+
+        assertAll(
+                () -> assertThat(cache.missCount() - missCount).isEqualTo(1),
+                () -> assertThat(cache.hitCount() - hitCount).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("시간을 추가하거나 삭제한 뒤에는 변경된 시간 목록을 읽는다.")
+    @Test
+    void readTimes_afterCreateAndDelete() {
+        assertThat(timeService.readTimes()).hasSize(1);
+
+        TimeResponse created = timeService.createTime(new TimeCreateRequest(LocalTime.of(11, 0)));
+        List<TimeResponse> afterCreate = timeService.readTimes();
+
+        timeService.deleteTime(1L);
+        List<TimeResponse> afterDelete = timeService.readTimes();
+
+        assertAll(
+                () -> assertThat(afterCreate).hasSize(2),
+                () -> assertThat(afterDelete).containsExactly(created)
+        );
+    }
+
+    @DisplayName("테마를 추가하거나 삭제한 뒤에는 변경된 테마 목록을 읽는다.")
+    @Test
+    void readThemes_afterCreateAndDelete() {
+        assertThat(themeService.readThemes()).hasSize(1);
+
+        ThemeResponse created = themeService.createTheme(new ThemeCreateRequest("테마2", "설명2", "https://image.jpg"));
+        List<ThemeResponse> afterCreate = themeService.readThemes();
+
+        themeService.deleteTheme(1L);
+        List<ThemeResponse> afterDelete = themeService.readThemes();
+
+        assertAll(
+                () -> assertThat(afterCreate).hasSize(2),
+                () -> assertThat(afterDelete).containsExactly(created)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package roomescape.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import roomescape.config.sql.SqlStatementListener;
+import roomescape.config.sql.SqlTracingDataSource;
+
+public class QueryPlanRecorder implements BeanPostProcessor, SqlStatementListener {
+    private final Map<String, String> plans = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return new SqlTracingDataSource(dataSource, this);
+        }
+        return bean;
+    }
+
+    public Map<String, String> plans() {
+        synchronized (plans) {
+            return Map.copyOf(plans);
+        }
+    }
+
+    public void clear() {
+        plans.clear();
+    }
+
+    @Override
+    public void executed(Connection connection, String sql, Object[] parameters, long nanos) throws SQLException {
+        if (isSelect(sql)) {
+            plans.put(sql, explain(connection, sql, parameters));
+        }
+    }
+
+    private String explain(Connection connection, String sql, Object[] parameters) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int index = 0; index < parameters.length; index++) {
+                explain.setObject(index + 1, parameters[index]);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "SELECT", 0, 6);
+    }
+}
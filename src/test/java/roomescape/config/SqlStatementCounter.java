@@ -0,0 +1,41 @@
+package roomescape.config;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import roomescape.config.sql.SqlStatementListener;
+import roomescape.config.sql.SqlTracingDataSource;
+
+public class SqlStatementCounter implements BeanPostProcessor, SqlStatementListener {
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return new SqlTracingDataSource(dataSource, this);
+        }
+        return bean;
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    @Override
+    public boolean capturesParameters() {
+        return false;
+    }
+
+    @Override
+    public void prepared(String sql) {
+        count.increment();
+    }
+
+    @Override
+    public void executed(Connection connection, String sql, Object[] parameters, long nanos) {
+    }
+}
@@ -0,0 +1,121 @@
+package roomescape.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 값을 제거한다.")
+    @Test
+    void put_whenOverMaxSize() {
+        BoundedCache cache = new BoundedCache("test", 2);
+        cache.put(1L, "1");
+        cache.put(2L, "2");
+        cache.get(1L);
+        cache.put(3L, "3");
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.get(1L)).isNotNull(),
+                () -> assertThat(cache.get(2L)).isNull(),
+                () -> assertThat(cache.get(3L)).isNotNull()
+        );
+    }
+
+    @DisplayName("조회 결과에 따라 적중과 실패 횟수를 센다.")
+    @Test
+    void countHitAndMiss() {
+        BoundedCache cache = new BoundedCache("test", 2);
+        cache.get(1L);
+        cache.put(1L, "1");
+        cache.get(1L);
+        cache.get(1L);
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(2),
+                () -> assertThat(cache.missCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("null 값은 저장하지 않는다.")
+    @Test
+    void put_whenNull() {
+        BoundedCache cache = new BoundedCache("test", 2);
+        cache.put(1L, null);
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @DisplayName("다른 키의 값을 불러오는 동안에도 저장된 값은 기다리지 않고 읽는다.")
+    @Test
+    void get_whileLoadingOtherKey() throws Exception {
+        BoundedCache cache = new BoundedCache("test", 2);
+        cache.put(1L, "1");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> slow = executorService.submit(() -> cache.get(2L, () -> {
+                loading.countDown();
+                release.await();
+                return "2";
+            }));
+            loading.await();
+
+            String cached = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> cache.get(1L, () -> "other"));
+            release.countDown();
+
+            assertAll(
+                    () -> assertThat(cached).isEqualTo("1"),
+                    () -> assertThat(slow.get(1, TimeUnit.SECONDS)).isEqualTo("2")
+            );
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("같은 키를 동시에 불러오면 한 번만 불러오고 결과를 함께 쓴다.")
+    @Test
+    void get_whenLoadingSameKey() throws Exception {
+        BoundedCache cache = new BoundedCache("test", 2);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executorService.submit(() -> cache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return "1";
+            }));
+            loading.await();
+            Future<String> second = executorService.submit(() -> cache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                return "other";
+            }));
+            release.countDown();
+
+            assertAll(
+                    () -> assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("1"),
+                    () -> assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("1"),
+                    () -> assertThat(loadCount.get()).isEqualTo(1)
+            );
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+}
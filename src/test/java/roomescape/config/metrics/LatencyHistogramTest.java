@@ -0,0 +1,44 @@
+package roomescape.config.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @DisplayName("기록한 값은 자신이 속한 구간의 상한을 넘지 않는다.")
+    @Test
+    void indexOf_withinUpperBound() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @DisplayName("백분위 값은 실제 값과 25% 이내로 차이 난다.")
+    @Test
+    void percentileNanos() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        assertAll(
+                () -> assertThat(histogram.count()).isEqualTo(1_000),
+                () -> assertThat(histogram.maxNanos()).isEqualTo(1_000_000),
+                () -> assertThat(histogram.percentileNanos(0.5)).isBetween(500_000L, 625_000L),
+                () -> assertThat(histogram.percentileNanos(0.99)).isBetween(990_000L, 1_000_000L),
+                () -> assertThat(histogram.percentileNanos(1.0)).isEqualTo(1_000_000)
+        );
+    }
+
+    @DisplayName("기록이 없으면 백분위 값은 0이다.")
+    @Test
+    void percentileNanos_empty() {
+        assertThat(new LatencyHistogram().percentileNanos(0.99)).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package roomescape.config.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@JdbcTest
+@ExtendWith(OutputCaptureExtension.class)
+class SqlTracingDataSourceTest {
+    private final DataSource dataSource;
+
+    @Autowired
+    SqlTracingDataSourceTest(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @DisplayName("요청마다 실행한 쿼리 수와 DB 시간을 센다.")
+    @Test
+    void beginRequest_countsStatements() {
+        SqlTracer sqlTracer = new SqlTracer(true, 1.0, 10_000);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlTracingDataSource(dataSource, sqlTracer));
+
+        SqlRequestStats stats = sqlTracer.beginRequest();
+        jdbcTemplate.queryForList("SELECT id FROM theme WHERE id = ?", Long.class, 1L);
+        jdbcTemplate.queryForList("SELECT id FROM reservation_time", Long.class);
+        sqlTracer.endRequest();
+
+        assertAll(
+                () -> assertThat(stats.statementCount()).isEqualTo(2),
+                () -> assertThat(stats.totalNanos()).isPositive()
+        );
+    }
+
+    @DisplayName("기준 시간을 넘은 쿼리는 바인딩된 파라미터와 함께 기록한다.")
+    @Test
+    void record_slowQuery(CapturedOutput output) {
+        SqlTracer sqlTracer = new SqlTracer(true, 1.0, 0);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlTracingDataSource(dataSource, sqlTracer));
+
+        jdbcTemplate.queryForList("SELECT id FROM theme WHERE name = ? AND id > ?", Long.class, "테마1", 3L);
+
+        assertThat(output).contains("slow query", "SELECT id FROM theme WHERE name = ? AND id > ?", "[테마1, 3]");
+    }
+
+    @DisplayName("비밀번호를 바인딩한 쿼리의 파라미터는 기록하지 않는다.")
+    @Test
+    void record_maskPassword(CapturedOutput output) {
+        SqlTracer sqlTracer = new SqlTracer(true, 1.0, 0);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlTracingDataSource(dataSource, sqlTracer));
+
+        jdbcTemplate.queryForList("SELECT id FROM member WHERE email = ? AND password = ?", Long.class,
+                "aaa@naver.com", "secret-password");
+
+        assertThat(output).contains("[2 masked]").doesNotContain("secret-password");
+    }
+
+    @DisplayName("표본으로 뽑힌 요청이 끝나면 쿼리 수와 DB 시간을 기록한다.")
+    @Test
+    void filter_logsRequestStats(CapturedOutput output) throws Exception {
+        SqlTracer sqlTracer = new SqlTracer(true, 1.0, 10_000);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlTracingDataSource(dataSource, sqlTracer));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/themes");
+
+        new SqlTraceFilter(sqlTracer).doFilter(request, new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> jdbcTemplate.queryForList("SELECT id FROM theme", Long.class));
+
+        assertThat(output).contains("GET /themes 200 - 1 statements");
+    }
+
+    @DisplayName("표본으로 뽑히지 않은 요청도 쿼리 시간은 재고 느린 쿼리는 파라미터 없이 기록한다.")
+    @Test
+    void filter_notSampled(CapturedOutput output) throws Exception {
+        SqlTracer sqlTracer = new SqlTracer(true, 0.0, 0);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SqlTracingDataSource(dataSource, sqlTracer));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/themes/popular");
+
+        new SqlTraceFilter(sqlTracer).doFilter(request, new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> jdbcTemplate.queryForList("SELECT id FROM theme WHERE id > ?", Long.class, 3L));
+
+        assertThat(output)
+                .contains("slow query", "SELECT id FROM theme WHERE id > ?", "[not sampled]")
+                .doesNotContain("/themes/popular", "[3]");
+    }
+}
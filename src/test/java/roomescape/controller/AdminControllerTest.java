@@ -3,6 +3,7 @@ package roomescape.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -67,4 +68,31 @@ class AdminControllerTest {
         Integer count = jdbcTemplate.queryForObject("SELECT count(1) from reservation", Integer.class);
         assertThat(count).isEqualTo(1);
     }
+
+    @DisplayName("관리자는 메서드별 응답 시간 지표를 조회할 수 있다.")
+    @Test
+    void readMetrics() {
+        RestAssured.given().log().all()
+                .when().get("/themes")
+                .then().log().all()
+                .statusCode(200);
+
+        List<String> names = RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/admin/metrics")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath().getList("findAll { it.count > 0 }.collect { it.name + ':' + it.outcome }", String.class);
+
+        assertThat(names).contains("ThemeController.readThemes:2xx", "ThemeDao.readThemes:success");
+    }
+
+    @DisplayName("관리자가 아니면 응답 시간 지표를 조회할 수 없다.")
+    @Test
+    void readMetrics_notAdmin() {
+        RestAssured.given().log().all()
+                .when().get("/admin/metrics")
+                .then().log().all()
+                .statusCode(203);
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -18,14 +19,18 @@ import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import roomescape.config.SqlStatementCounter;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Import(SqlStatementCounter.class)
 class AuthControllerTest {
     @LocalServerPort
     private int port;
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
 
     @BeforeEach
     void setUp() {
@@ -102,6 +107,37 @@ class AuthControllerTest {
         assertThat(name).isEqualTo("켬미");
     }
 
+    @DisplayName("로그인 확인은 DB를 조회하지 않고 토큰에 담긴 정보로 응답한다.")
+    @Test
+    void checkLogin_withoutQuery() {
+        Map<String, String> params = Map.of(
+                "email", "aaa@naver.com",
+                "password", "1111"
+        );
+
+        String cookie = RestAssured.given().log().all()
+                .contentType(ContentType.JSON)
+                .body(params)
+                .when().post("/login")
+                .then().log().all()
+                .statusCode(200)
+                .extract().cookie("token");
+
+        long statementCount = sqlStatementCounter.count();
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/login/check")
+                .then().log().all()
+                .statusCode(200).extract();
+
+        assertAll(
+                () -> assertThat(response.jsonPath().getString("name")).isEqualTo("켬미"),
+                () -> assertThat(response.jsonPath().getString("email")).isEqualTo("aaa@naver.com"),
+                () -> assertThat(response.jsonPath().getString("role")).isEqualTo("MEMBER"),
+                () -> assertThat(sqlStatementCounter.count() - statementCount).isZero()
+        );
+    }
+
     @DisplayName("로그아웃 시 쿠키에 저장된 값을 삭제한다.")
     @Test
     void logout() {
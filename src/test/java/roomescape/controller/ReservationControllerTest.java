@@ -1,30 +1,67 @@
 package roomescape.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import roomescape.config.SqlStatementCounter;
+import roomescape.domain.Member;
+import roomescape.domain.Reservation;
+import roomescape.domain.ReservationTime;
+import roomescape.domain.Role;
+import roomescape.domain.Theme;
 import roomescape.dto.request.ReservationMemberCreateRequest;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.ReservationResponse;
+import roomescape.service.ReservationService;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Import(SqlStatementCounter.class)
 class ReservationControllerTest {
     @LocalServerPort
     private int port;
     @Autowired
     private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+    @Autowired
+    private ObjectMapper objectMapper;
     private String cookie;
 
     @BeforeEach
@@ -57,13 +94,48 @@ class ReservationControllerTest {
                 .when().get("/reservations")
                 .then().log().all()
                 .statusCode(200).extract()
-                .jsonPath().getInt("size()");
+                .jsonPath().getInt("reservations.size()");
 
         Integer count = jdbcTemplate.queryForObject("SELECT count(1) from reservation", Integer.class);
 
         assertThat(size).isEqualTo(count);
     }
 
+    @DisplayName("예약 목록을 커서를 통해 나누어 읽을 수 있다.")
+    @Test
+    void readReservations_withCursor() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 1, 1)");
+
+        String nextCursor = RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/reservations?size=1")
+                .then().log().all()
+                .statusCode(200)
+                .body("reservations.size()", is(1))
+                .body("reservations[0].id", is(1))
+                .extract().jsonPath().getString("nextCursor");
+
+        RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/reservations?size=1&cursor=" + nextCursor)
+                .then().log().all()
+                .statusCode(200)
+                .body("reservations.size()", is(1))
+                .body("reservations[0].id", is(2))
+                .body("nextCursor", nullValue());
+    }
+
+    @DisplayName("예약 목록 조회 조건의 형식이 올바르지 않으면 400을 응답한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"size=abc", "themeId=x", "dateFrom=bad", "dateTo=2023-13-01", "cursor=bad", "size=0"})
+    void readReservations_whenInvalidParameter(String query) {
+        RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/reservations?" + query)
+                .then().log().all()
+                .statusCode(400);
+    }
+
     @DisplayName("정보와 일치하는 예약 목록을 읽을 수 있다.")
     @Test
     void readDetailReservations() {
@@ -77,6 +149,110 @@ class ReservationControllerTest {
         assertThat(size).isEqualTo(1);
     }
 
+    @DisplayName("예약 목록을 테마와 시간의 id, 이름만으로 읽을 수 있다.")
+    @Test
+    void readReservationSummaries() {
+        Map<String, Object> reservation = RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/reservations/summary")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath().getMap("reservations[0]");
+
+        assertThat(reservation)
+                .containsEntry("themeName", "테마1")
+                .containsEntry("startAt", "10:00")
+                .doesNotContainKeys("member", "theme", "time");
+    }
+
+    @DisplayName("stream=true로 읽은 예약 목록은 한 번에 읽은 예약 목록과 바이트 단위로 같다.")
+    @Test
+    void streamReservations_sameBytesAsBuffered() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 1, 1)");
+
+        assertAll(
+                () -> assertThat(readBytes("/reservations?stream=true&size=1"))
+                        .isEqualTo(readBytes("/reservations?size=1")),
+                () -> assertThat(readBytes("/reservations?stream=true"))
+                        .isEqualTo(readBytes("/reservations")),
+                () -> assertThat(readBytes("/reservations/detail?stream=true&themeId=1&memberId=1&dateFrom=2023-08-05&dateTo=2023-08-06"))
+                        .isEqualTo(readBytes("/reservations/detail?themeId=1&memberId=1&dateFrom=2023-08-05&dateTo=2023-08-06"))
+        );
+    }
+
+    @DisplayName("스트리밍 도중 실패하면 닫는 괄호를 채우지 않아 잘린 JSON으로 남는다.")
+    @Test
+    void streamReservations_whenFailedMidStream() throws IOException {
+        ReservationService reservationService = mock(ReservationService.class);
+        Reservation reservation = new Reservation(1L, LocalDate.of(2023, 8, 5),
+                new Member(1L, "켬미", "aaa@naver.com", null, Role.MEMBER),
+                new ReservationTime(1L, LocalTime.of(10, 0)),
+                new Theme(1L, "테마1", "설명1", "https://image.jpg"));
+        doAnswer(invocation -> {
+            Consumer<ReservationResponse> consumer = invocation.getArgument(1);
+            consumer.accept(ReservationResponse.from(reservation));
+            throw new IllegalStateException("조회 도중 연결이 끊어졌습니다.");
+        }).when(reservationService).readReservations(any(ReservationPageRequest.class), any());
+        ReservationController controller = new ReservationController(reservationService, objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, ReservationPageRequest.DEFAULT_SIZE);
+
+        assertThatThrownBy(() -> controller.streamReservations(request, response))
+                .isInstanceOf(IllegalStateException.class);
+        String body = response.getContentAsString();
+        assertAll(
+                () -> assertThat(body).startsWith("{\"reservations\":[{\"id\":1"),
+                () -> assertThat(body).doesNotContain("nextCursor"),
+                () -> assertThatThrownBy(() -> objectMapper.readTree(body))
+                        .isInstanceOf(JsonProcessingException.class)
+        );
+    }
+
+    private byte[] readBytes(String path) {
+        return RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get(path)
+                .then().log().all()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .extract().asByteArray();
+    }
+
+    @DisplayName("view=normalized로 요청하면 예약은 id만 담고 테마, 시간, 사용자는 사전으로 한 번만 내려준다.")
+    @Test
+    void readNormalizedReservations() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 1, 1)");
+
+        Map<String, Object> response = RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/reservations?view=normalized")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath().getMap("");
+
+        assertAll(
+                () -> assertThat(response).containsKeys("reservations", "members", "times", "themes"),
+                () -> assertThat((Map<?, ?>) response.get("themes")).containsOnlyKeys("1"),
+                () -> assertThat((Map<?, ?>) response.get("times")).containsOnlyKeys("1"),
+                () -> assertThat((Map<?, ?>) response.get("members")).containsOnlyKeys("1")
+        );
+    }
+
+    @DisplayName("Accept 헤더로 정규화된 형식을 요청하면 조건에 맞는 예약 목록을 정규화해 내려준다.")
+    @Test
+    void readNormalizedDetailReservations_byAcceptHeader() {
+        RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .accept(ReservationController.NORMALIZED_MEDIA_TYPE)
+                .when().get("/reservations/detail?themeId=1&memberId=1&dateFrom=2023-08-05&dateTo=2023-08-06")
+                .then().log().all()
+                .statusCode(200)
+                .header("Content-Type", startsWith(ReservationController.NORMALIZED_MEDIA_TYPE))
+                .body("reservations[0].themeId", is(1))
+                .body("themes.'1'.name", is("테마1"))
+                .body("reservations[0].theme", nullValue());
+    }
+
     @DisplayName("예약을 DB에 추가할 수 있다.")
     @Test
     void createReservation() {
@@ -90,12 +266,84 @@ class ReservationControllerTest {
                 .when().post("/reservations")
                 .then().log().all()
                 .statusCode(201)
-                .header("Location", "/reservations/2");
+                .header("Location", "/reservations/2")
+                .body("id", is(2))
+                .body("date", is("2040-08-05"))
+                .body("member.name", is("켬미"))
+                .body("time.startAt", is("10:00"))
+                .body("theme.name", is("테마1"));
 
         Integer count = jdbcTemplate.queryForObject("SELECT count(1) from reservation", Integer.class);
         assertThat(count).isEqualTo(2);
     }
 
+    @DisplayName("예약 하나를 추가할 때 검증 조회, 예약 추가, 테마 집계 갱신만 실행한다.")
+    @Test
+    void createReservation_statementCount() {
+        ReservationMemberCreateRequest params = new ReservationMemberCreateRequest
+                (LocalDate.of(2040, 8, 5), 1L, 1L);
+
+        long statementCount = sqlStatementCounter.count();
+        RestAssured.given().log().all()
+                .contentType(ContentType.JSON)
+                .cookie("token", cookie)
+                .body(params)
+                .when().post("/reservations")
+                .then().log().all()
+                .statusCode(201);
+
+        assertThat(sqlStatementCounter.count() - statementCount).isEqualTo(4);
+    }
+
+    @DisplayName("같은 시간대 같은 테마에 동시에 예약을 요청하면 하나의 예약만 생성된다.")
+    @Test
+    void createReservation_whenConcurrentRequests() throws InterruptedException {
+        int requestCount = 200;
+        ReservationMemberCreateRequest params = new ReservationMemberCreateRequest
+                (LocalDate.of(2040, 8, 5), 1L, 1L);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(requestCount);
+        AtomicInteger createdCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    int statusCode = RestAssured.given()
+                            .contentType(ContentType.JSON)
+                            .cookie("token", cookie)
+                            .body(params)
+                            .when().post("/reservations")
+                            .then().extract().statusCode();
+                    if (statusCode == 201) {
+                        createdCount.incrementAndGet();
+                    }
+                    if (statusCode == 400) {
+                        rejectedCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(1) from reservation WHERE date = '2040-08-05' AND time_id = 1 AND theme_id = 1", Integer.class);
+        assertAll(
+                () -> assertThat(createdCount.get()).isEqualTo(1),
+                () -> assertThat(rejectedCount.get()).isEqualTo(requestCount - 1),
+                () -> assertThat(count).isEqualTo(1)
+        );
+    }
+
     @DisplayName("삭제할 id를 받아서 DB에서 해당 예약을 삭제 할 수 있다.")
     @Test
     void deleteReservation() {
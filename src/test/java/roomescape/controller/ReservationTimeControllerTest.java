@@ -1,7 +1,9 @@
 package roomescape.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +20,7 @@ import org.springframework.test.context.jdbc.Sql;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import roomescape.dto.request.TimeCreateRequest;
+import roomescape.dto.response.AvailableDateResponse;
 import roomescape.dto.response.AvailableTimeResponse;
 import roomescape.dto.response.TimeResponse;
 
@@ -86,6 +89,47 @@ class ReservationTimeControllerTest {
         assertThat(response).isEqualTo(expected);
     }
 
+    @DisplayName("기간 내 날짜별로 예약 가능한 시간 id 목록을 읽을 수 있다.")
+    @Test
+    void readAvailableDates() {
+        List<AvailableDateResponse> expected = List.of(
+                new AvailableDateResponse(LocalDate.of(2023, 8, 5), List.of(2L)),
+                new AvailableDateResponse(LocalDate.of(2023, 8, 6), List.of(1L, 2L))
+        );
+        List<AvailableDateResponse> response = RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/times/available/range?themeId=1&from=2023-08-05&to=2023-08-06")
+                .then().log().all()
+                .statusCode(200).extract()
+                .jsonPath().getList(".", AvailableDateResponse.class);
+
+        assertThat(response).isEqualTo(expected);
+    }
+
+    @DisplayName("최대 기간을 넘겨 예약 가능한 시간을 조회하면 400을 응답한다.")
+    @Test
+    void readAvailableDates_whenRangeTooLong() {
+        RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/times/available/range?themeId=1&from=2023-08-01&to=2023-12-31")
+                .then().log().all()
+                .statusCode(400);
+    }
+
+    @DisplayName("해당 날짜의 테마와 시간별 예약 현황을 한 번에 읽을 수 있다.")
+    @Test
+    void readAvailabilityMatrix() {
+        RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().get("/times/available/matrix?date=2023-08-05")
+                .then().log().all()
+                .statusCode(200)
+                .body("date", is("2023-08-05"))
+                .body("times.size()", is(2))
+                .body("themes.size()", is(1))
+                .body("themes[0].bookedTimes", is("AQ=="));
+    }
+
     @DisplayName("시간을 DB에 추가할 수 있다.")
     @Test
     void createTime() {
@@ -116,4 +160,18 @@ class ReservationTimeControllerTest {
         Integer countAfterDelete = jdbcTemplate.queryForObject("SELECT count(1) from reservation_time", Integer.class);
         assertThat(countAfterDelete).isEqualTo(1);
     }
+
+    @DisplayName("예약이 있는 시간을 삭제하려고 하면 삭제되지 않는다.")
+    @Test
+    void deleteTime_whenExistsReservation() {
+        RestAssured.given().log().all()
+                .cookie("token", cookie)
+                .when().delete("/times/1")
+                .then().log().all()
+                .statusCode(400)
+                .body("detail", is("해당 시간을 사용하는 예약이 존재합니다."));
+
+        Integer countAfterDelete = jdbcTemplate.queryForObject("SELECT count(1) from reservation_time", Integer.class);
+        assertThat(countAfterDelete).isEqualTo(2);
+    }
 }
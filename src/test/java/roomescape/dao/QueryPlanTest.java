@@ -0,0 +1,158 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+import roomescape.config.QueryPlanRecorder;
+import roomescape.dto.request.ReservationCursor;
+import roomescape.dto.request.ReservationDetailRequest;
+import roomescape.dto.request.ReservationPageRequest;
+
+@JdbcTest
+@Import(QueryPlanRecorder.class)
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class QueryPlanTest {
+    private static final Pattern RESERVATION_SCAN = Pattern.compile("\\bRESERVATION\\.tableScan");
+    private static final Pattern THEME_DAILY_COUNT_SCAN = Pattern.compile("\\bTHEME_DAILY_COUNT\\.tableScan");
+    private static final Pattern MEMBER_SCAN = Pattern.compile("\\bMEMBER\\.tableScan");
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 60;
+    private static final int MEMBERS = 20;
+    private static final int TIMES = 10;
+    private static final int THEMES = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryPlanRecorder queryPlanRecorder;
+    private final ReservationDao reservationDao;
+    private final TimeDao timeDao;
+    private final ThemeDao themeDao;
+    private final MemberDao memberDao;
+    private final ThemeDailyCountDao themeDailyCountDao;
+
+    @Autowired
+    QueryPlanTest(JdbcTemplate jdbcTemplate, QueryPlanRecorder queryPlanRecorder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queryPlanRecorder = queryPlanRecorder;
+        this.reservationDao = new ReservationDao(jdbcTemplate);
+        this.timeDao = new TimeDao(jdbcTemplate);
+        this.themeDao = new ThemeDao(jdbcTemplate);
+        this.memberDao = new MemberDao(jdbcTemplate);
+        this.themeDailyCountDao = new ThemeDailyCountDao(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 1; i <= MEMBERS; i++) {
+            members.add(new Object[]{"사용자" + i, "member" + i + "@naver.com", "1111"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member(name, email, password) VALUES (?, ?, ?)", members);
+
+        List<Object[]> times = new ArrayList<>();
+        for (int i = 0; i < TIMES; i++) {
+            times.add(new Object[]{LocalTime.of(10 + i, 0)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_time (start_at) VALUES (?)", times);
+
+        List<Object[]> themes = new ArrayList<>();
+        for (int i = 1; i <= THEMES; i++) {
+            themes.add(new Object[]{"테마" + i, "설명" + i, "https://image.jpg"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO theme (name, description, thumbnail) VALUES (?, ?, ?)", themes);
+
+        List<Object[]> reservations = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            for (long timeId = 1; timeId <= TIMES; timeId++) {
+                for (long themeId = 1; themeId <= THEMES; themeId++) {
+                    long memberId = (day + timeId + themeId) % MEMBERS + 1;
+                    reservations.add(new Object[]{FIRST_DATE.plusDays(day), memberId, timeId, themeId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, ?, ?, ?)", reservations);
+        themeDailyCountDao.rebuildCounts();
+
+        queryPlanRecorder.clear();
+    }
+
+    @DisplayName("예약 조회 쿼리는 예약 테이블 전체를 읽지 않는다.")
+    @Test
+    void reservationDao() {
+        LocalDate date = FIRST_DATE.plusDays(30);
+        reservationDao.readReservations(new ReservationPageRequest(null, null, null, null, 50), 51);
+        reservationDao.readReservations(new ReservationPageRequest(3L, date, date.plusDays(6), null, 50), 51);
+        reservationDao.readReservations(new ReservationPageRequest(null, null, null,
+                new ReservationCursor(date, 7L, 100L), 50), 51);
+        reservationDao.readReservationsByDetails(new ReservationDetailRequest(3L, 5L, date, date.plusDays(6)));
+        reservationDao.readReservationCandidate(date, 1L, 1L, 1L);
+        reservationDao.readReservationDateById(1L);
+
+        assertNoTableScan(6, RESERVATION_SCAN);
+    }
+
+    @DisplayName("조건 없는 예약 목록 첫 페이지는 인덱스 순서대로 읽어서 따로 정렬하지 않는다.")
+    @Test
+    void reservationDao_firstPage() {
+        reservationDao.readReservations(new ReservationPageRequest(null, null, null, null, 50), 51);
+
+        assertNoTableScan(1, RESERVATION_SCAN);
+        assertThat(queryPlanRecorder.plans().values())
+                .singleElement(STRING)
+                .contains("RESERVATION_DATE_TIME_ID_IDX", "index sorted");
+    }
+
+    @DisplayName("예약 가능 시간 조회 쿼리는 예약 테이블 전체를 읽지 않는다.")
+    @Test
+    void timeDao() {
+        LocalDate date = FIRST_DATE.plusDays(30);
+        timeDao.readAvailableTimes(date, 3L);
+        timeDao.readBookedTimeIds(3L, date, date.plusDays(6));
+        timeDao.readBookedTimeIdsByTheme(date);
+
+        assertNoTableScan(3, RESERVATION_SCAN);
+    }
+
+    @DisplayName("테마 랭킹 조회 쿼리는 집계 테이블 전체를 읽지 않는다.")
+    @Test
+    void themeDao() {
+        themeDao.readThemesRankingOfReservation(
+                FIRST_DATE.plusDays(23).toString(), FIRST_DATE.plusDays(29).toString());
+
+        assertNoTableScan(1, THEME_DAILY_COUNT_SCAN);
+    }
+
+    @DisplayName("id, 이메일로 사용자를 찾는 쿼리는 사용자 테이블 전체를 읽지 않는다.")
+    @Test
+    void memberDao() {
+        memberDao.readMemberById(1L);
+        memberDao.readMemberByEmailAndPassword("member1@naver.com", "1111");
+
+        assertNoTableScan(2, MEMBER_SCAN);
+    }
+
+    private void assertNoTableScan(int expectedQueryCount, Pattern tableScan) {
+        Map<String, String> plans = queryPlanRecorder.plans();
+
+        assertThat(plans).hasSize(expectedQueryCount);
+        assertThat(plans).allSatisfy((sql, plan) -> assertThat(tableScan.matcher(plan).find())
+                .as("table scan in plan:%n%s", plan)
+                .isFalse());
+    }
+}
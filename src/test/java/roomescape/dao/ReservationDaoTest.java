@@ -1,6 +1,8 @@
 package roomescape.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -9,8 +11,6 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -19,9 +19,16 @@ import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 
 import roomescape.domain.Member;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationCandidate;
+import roomescape.domain.ReservationSummary;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.Role;
 import roomescape.domain.Theme;
+import roomescape.domain.exception.IllegalRequestArgumentException;
+import roomescape.dto.request.ReservationCursor;
+import roomescape.dto.request.ReservationDetailRequest;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.ReservationResponse;
 
 @JdbcTest
 @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
@@ -47,7 +54,8 @@ class ReservationDaoTest {
     @DisplayName("DB에서 예약 목록을 읽을 수 있다.")
     @Test
     void readReservations() {
-        List<Reservation> actual = reservationDao.readReservations();
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, 10);
+        List<Reservation> actual = reservationDao.readReservations(request, 10);
         List<Reservation> expected = List.of(new Reservation(
                 1L,
                 LocalDate.of(2023, 8, 5),
@@ -58,45 +66,159 @@ class ReservationDaoTest {
         assertThat(actual).isEqualTo(expected);
     }
 
-    @DisplayName("예약 중에 해당 시간(time id)에 예약이 있는지 알 수 있다.")
-    @ParameterizedTest
-    @CsvSource(value = {"1, true", "2, false"})
-    void existsReservationByTimeId(long timeId, boolean expected) {
-        boolean actual = reservationDao.existsReservationByTimeId(timeId);
-        assertThat(actual).isEqualTo(expected);
+    @DisplayName("예약 목록을 읽을 때 사용자 비밀번호는 읽지 않는다.")
+    @Test
+    void readReservations_withoutPassword() {
+        List<Reservation> reservations = reservationDao.readReservations(
+                new ReservationPageRequest(null, null, null, null, 10), 10);
+
+        assertThat(reservations).extracting(reservation -> reservation.getMember().getPassword())
+                .containsOnlyNulls();
     }
 
-    @DisplayName("예약 중에 해당 테마(theme id)인 예약이 있는지 알 수 있다.")
-    @ParameterizedTest
-    @CsvSource(value = {"1, true", "2, false"})
-    void existsReservationByThemeId(long themeId, boolean expected) {
-        boolean actual = reservationDao.existsReservationByThemeId(themeId);
-        assertThat(actual).isEqualTo(expected);
+    @DisplayName("예약 목록을 사용자, 시간, 테마의 id와 이름만으로 읽을 수 있다.")
+    @Test
+    void readReservationSummaries() {
+        List<ReservationSummary> actual = reservationDao.readReservationSummaries(
+                new ReservationPageRequest(null, null, null, null, 10), 10);
+
+        ReservationSummary summary = actual.get(0);
+        assertAll(
+                () -> assertThat(actual).hasSize(1),
+                () -> assertThat(summary.getId()).isEqualTo(1L),
+                () -> assertThat(summary.getDate()).isEqualTo(LocalDate.of(2023, 8, 5)),
+                () -> assertThat(summary.getMemberName()).isEqualTo("켬미"),
+                () -> assertThat(summary.getStartAt()).isEqualTo(LocalTime.of(10, 0)),
+                () -> assertThat(summary.getThemeId()).isEqualTo(1L),
+                () -> assertThat(summary.getThemeName()).isEqualTo("테마1")
+        );
     }
 
-    @DisplayName("예약 중에 해당 시간(time id)에 해당 테마(theme id)인 예약이 있는지 알 수 있다.")
-    @ParameterizedTest
-    @CsvSource(value = {"1, 1, true", "1, 2, false"})
-    void existsReservationByDateAndTimeIdAndThemeId(long timeId, long themeId, boolean expected) {
-        LocalDate date = LocalDate.of(2023, 8, 5);
-        boolean actual = reservationDao.existsReservationByDateAndTimeIdAndThemeId(date, timeId, themeId);
-        assertThat(actual).isEqualTo(expected);
+    @DisplayName("테마, 사용자, 기간으로 예약 요약 목록을 읽을 수 있다.")
+    @Test
+    void readReservationSummariesByDetails() {
+        List<ReservationSummary> actual = reservationDao.readReservationSummariesByDetails(
+                new ReservationDetailRequest(1L, 1L, LocalDate.of(2023, 8, 1), LocalDate.of(2023, 8, 31)));
+
+        assertThat(actual).extracting(ReservationSummary::getId).containsExactly(1L);
+    }
+
+    @DisplayName("한 번의 조회에서 같은 id의 사용자, 시간, 테마는 하나의 객체를 공유한다.")
+    @Test
+    void readReservations_sharesReferenceObjects() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 1, 1)");
+
+        List<Reservation> reservations = reservationDao.readReservations(
+                new ReservationPageRequest(null, null, null, null, 10), 10);
+
+        Reservation first = reservations.get(0);
+        Reservation second = reservations.get(1);
+        assertAll(
+                () -> assertThat(second.getMember()).isSameAs(first.getMember()),
+                () -> assertThat(second.getTime()).isSameAs(first.getTime()),
+                () -> assertThat(second.getTheme()).isSameAs(first.getTheme())
+        );
+    }
+
+    @DisplayName("커서 이후의 예약 목록을 날짜, 시간 id, 예약 id 순서로 읽을 수 있다.")
+    @Test
+    void readReservations_afterCursor() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-05', 1, 2, 1)");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-04', 1, 2, 1)");
+
+        ReservationCursor cursor = new ReservationCursor(LocalDate.of(2023, 8, 4), 2L, 3L);
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, cursor, 10);
+        List<Long> actual = reservationDao.readReservations(request, 10).stream()
+                .map(Reservation::getId)
+                .toList();
+
+        assertThat(actual).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("테마와 날짜 범위로 예약 목록을 걸러서 읽을 수 있다.")
+    @Test
+    void readReservations_withFilter() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-07', 1, 1, 1)");
+
+        ReservationPageRequest request = new ReservationPageRequest(
+                1L, LocalDate.of(2023, 8, 6), LocalDate.of(2023, 8, 8), null, 10);
+        List<Long> actual = reservationDao.readReservations(request, 10).stream()
+                .map(Reservation::getId)
+                .toList();
+
+        assertThat(actual).containsExactly(2L);
     }
 
     @DisplayName("DB에 예약을 추가할 수 있다.")
     @Test
     void createReservation() {
         Reservation reservation = new Reservation(
-                1L,
+                LocalDate.of(2023, 8, 5),
+                new Member(1L, "켬미", "aaa@naver.com", "1111", Role.MEMBER),
+                new ReservationTime(2L, LocalTime.of(11, 0)),
+                new Theme(1L, "테마1", "설명1", "https://image.jpg")
+        );
+        Reservation actual = reservationDao.createReservation(reservation);
+
+        Integer count = jdbcTemplate.queryForObject("SELECT count(1) from reservation", Integer.class);
+        ReservationResponse expected = ReservationResponse.from(reservation.createWithId(2L));
+        assertAll(
+                () -> assertThat(count).isEqualTo(2),
+                () -> assertThat(ReservationResponse.from(actual)).isEqualTo(expected)
+        );
+    }
+
+    @DisplayName("같은 날짜, 시간, 테마의 예약을 추가하려고 하면 예외를 던진다.")
+    @Test
+    void createReservation_whenAlreadyBooked() {
+        Reservation reservation = new Reservation(
                 LocalDate.of(2023, 8, 5),
                 new Member(1L, "켬미", "aaa@naver.com", "1111", Role.MEMBER),
                 new ReservationTime(1L, LocalTime.of(10, 0)),
                 new Theme(1L, "테마1", "설명1", "https://image.jpg")
         );
-        reservationDao.createReservation(reservation);
+
+        assertThatThrownBy(() -> reservationDao.createReservation(reservation))
+                .isInstanceOf(IllegalRequestArgumentException.class)
+                .hasMessage("해당 시간대 해당 테마 예약은 이미 존재합니다.");
 
         Integer count = jdbcTemplate.queryForObject("SELECT count(1) from reservation", Integer.class);
-        assertThat(count).isEqualTo(2);
+        assertThat(count).isEqualTo(1);
+    }
+
+    @DisplayName("한 번의 조회로 예약 시간, 테마, 사용자와 해당 시간대의 예약 여부를 읽을 수 있다.")
+    @Test
+    void readReservationCandidate() {
+        ReservationCandidate actual = reservationDao.readReservationCandidate(LocalDate.of(2023, 8, 5), 1L, 1L, 1L);
+
+        assertAll(
+                () -> assertThat(actual.getTime()).contains(new ReservationTime(1L, LocalTime.of(10, 0))),
+                () -> assertThat(actual.getTheme()).contains(new Theme(1L, "테마1", "설명1", "https://image.jpg")),
+                () -> assertThat(actual.getMember()).contains(new Member(1L, "켬미", "aaa@naver.com", "1111", Role.MEMBER)),
+                () -> assertThat(actual.isAlreadyBooked()).isTrue()
+        );
+    }
+
+    @DisplayName("없는 예약 시간, 테마, 사용자는 빈 값으로 읽는다.")
+    @Test
+    void readReservationCandidate_whenNotExists() {
+        ReservationCandidate actual = reservationDao.readReservationCandidate(LocalDate.of(2023, 8, 5), 3L, 2L, 2L);
+
+        assertAll(
+                () -> assertThat(actual.getTime()).isEmpty(),
+                () -> assertThat(actual.getTheme()).isEmpty(),
+                () -> assertThat(actual.getMember()).isEmpty(),
+                () -> assertThat(actual.isAlreadyBooked()).isFalse()
+        );
+    }
+
+    @DisplayName("DB에서 예약 id로 예약 날짜를 읽을 수 있고, 없는 예약이면 Optional 값이 넘어온다.")
+    @Test
+    void readReservationDateById() {
+        assertAll(
+                () -> assertThat(reservationDao.readReservationDateById(1L)).contains(LocalDate.of(2023, 8, 5)),
+                () -> assertThat(reservationDao.readReservationDateById(2L)).isEmpty()
+        );
     }
 
     @DisplayName("DB에 예약을 삭제할 수 있다.")
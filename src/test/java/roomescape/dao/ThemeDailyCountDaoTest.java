@@ -0,0 +1,134 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+import roomescape.domain.Theme;
+
+@JdbcTest
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class ThemeDailyCountDaoTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final ThemeDailyCountDao themeDailyCountDao;
+    private final ThemeDao themeDao;
+
+    @Autowired
+    ThemeDailyCountDaoTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.themeDailyCountDao = new ThemeDailyCountDao(jdbcTemplate);
+        this.themeDao = new ThemeDao(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO member(name, email, password) VALUES ('켬미', 'aaa@naver.com', '1111')");
+        jdbcTemplate.update("INSERT INTO reservation_time (start_at) VALUES ('10:00')");
+        jdbcTemplate.update("INSERT INTO theme (name, description, thumbnail) VALUES ('테마1', '설명1' ,'https://image.jpg')");
+        jdbcTemplate.update("INSERT INTO theme (name, description, thumbnail) VALUES ('테마2', '설명2' ,'https://image.jpg')");
+        jdbcTemplate.update("INSERT INTO theme (name, description, thumbnail) VALUES ('테마3', '설명3' ,'https://image.jpg')");
+    }
+
+    @DisplayName("테마의 날짜별 예약 수를 증가시킬 수 있다.")
+    @Test
+    void increaseCount() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+
+        themeDailyCountDao.increaseCount(1L, date);
+        themeDailyCountDao.increaseCount(1L, date);
+
+        assertThat(themeDailyCountDao.readCount(1L, date)).isEqualTo(2L);
+        assertThat(themeDailyCountDao.readCount(2L, date)).isEqualTo(0L);
+    }
+
+    @DisplayName("예약 id로 해당 테마의 날짜별 예약 수를 감소시키고, 0이 되면 집계 행을 지운다.")
+    @Test
+    void decreaseCountByReservationId() {
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-05-01', 1, 1, 1)");
+        themeDailyCountDao.increaseCount(1L, date);
+
+        themeDailyCountDao.decreaseCountByReservationId(1L);
+
+        Integer rowCount = jdbcTemplate.queryForObject("SELECT count(1) FROM theme_daily_count", Integer.class);
+        assertThat(rowCount).isEqualTo(0);
+    }
+
+    @DisplayName("예약 테이블로부터 테마의 날짜별 예약 수를 다시 집계할 수 있다.")
+    @Test
+    void rebuildCounts() {
+        jdbcTemplate.update("INSERT INTO reservation_time (start_at) VALUES ('11:00')");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-05-01', 1, 1, 1)");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-05-01', 1, 2, 1)");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-05-02', 1, 1, 2)");
+        themeDailyCountDao.increaseCount(3L, LocalDate.of(2024, 5, 3));
+
+        themeDailyCountDao.rebuildCounts();
+
+        assertThat(themeDailyCountDao.readCount(1L, LocalDate.of(2024, 5, 1))).isEqualTo(2L);
+        assertThat(themeDailyCountDao.readCount(2L, LocalDate.of(2024, 5, 2))).isEqualTo(1L);
+        assertThat(themeDailyCountDao.readCount(3L, LocalDate.of(2024, 5, 3))).isEqualTo(0L);
+    }
+
+    @DisplayName("집계 테이블로 읽은 랭킹은 예약 테이블로 계산한 랭킹과 같다.")
+    @Test
+    void readThemesRankingOfReservation_comparedWithReservationTable() {
+        for (int hour = 11; hour < 30; hour++) {
+            jdbcTemplate.update("INSERT INTO reservation_time (start_at) VALUES (?)", String.format("%02d:%02d", hour / 2 + 5, hour % 2 * 30));
+        }
+        String startDate = "2024-01-24";
+        String endDate = "2024-01-30";
+
+        insertReservations(LocalDate.of(2024, 1, 1), 0, 60);
+        themeDailyCountDao.rebuildCounts();
+
+        assertThat(themeDao.readThemesRankingOfReservation(startDate, endDate))
+                .isEqualTo(readThemesRankingFromReservation(startDate, endDate))
+                .extracting(Theme::getId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    private void insertReservations(LocalDate firstDate, int fromDay, int toDay) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int day = fromDay; day < toDay; day++) {
+            LocalDate date = firstDate.plusDays(day);
+            for (long themeId = 1; themeId <= 3; themeId++) {
+                long timeCount = 20 - (themeId - 1) * 7;
+                for (long timeId = 1; timeId <= timeCount; timeId++) {
+                    batchArgs.add(new Object[]{date, timeId, themeId});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, 1, ?, ?)", batchArgs);
+    }
+
+    private List<Theme> readThemesRankingFromReservation(String startDate, String endDate) {
+        String sql = """
+                SELECT theme.id, theme.name, theme.description, theme.thumbnail, COUNT(reservation.theme_id) AS reservation_count
+                FROM theme
+                JOIN reservation
+                ON reservation.theme_id = theme.id
+                WHERE reservation.date >= ? AND reservation.date <= ?
+                GROUP BY theme.id, theme.name, theme.description, theme.thumbnail
+                ORDER BY reservation_count DESC
+                LIMIT 10
+                """;
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> new Theme(
+                resultSet.getLong("id"),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getString("thumbnail")
+        ), startDate, endDate);
+    }
+}
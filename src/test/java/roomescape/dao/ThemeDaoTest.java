@@ -1,9 +1,9 @@
 package roomescape.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +17,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 
 import roomescape.domain.Theme;
+import roomescape.domain.exception.IllegalRequestArgumentException;
 
 @JdbcTest
 @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
@@ -40,6 +41,7 @@ class ThemeDaoTest {
         jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-05-01', 1, 1, 2)");
         jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-04-30', 1, 1, 2)");
         jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2024-04-30', 1, 1, 1)");
+        new ThemeDailyCountDao(jdbcTemplate).rebuildCounts();
     }
 
     @DisplayName("DB에서 테마 목록을 읽을 수 있다.")
@@ -54,21 +56,6 @@ class ThemeDaoTest {
         assertThat(actual).isEqualTo(expected);
     }
 
-    @DisplayName("DB에서 특정 테마를 읽을 수 있다.")
-    @Test
-    void readThemeById() {
-        Optional<Theme> actual = themeDao.readThemeById(1L);
-        Theme expected = new Theme(1L, "테마1", "설명1", "https://image.jpg");
-        assertThat(actual.get()).isEqualTo(expected);
-    }
-
-    @DisplayName("DB에서 없는 테마를 조회하려고하면 Optional 값이 넘어온다.")
-    @Test
-    void readThemeById_throwException() {
-        Optional<Theme> actual = themeDao.readThemeById(4L);
-        assertThat(actual.isEmpty()).isEqualTo(true);
-    }
-
     @DisplayName("주어진 두 날짜 사이에 있는 예약을 기준으로 테마 랭킹을 읽을 수 있다.")
     @Test
     void readThemesRankingOfReservation() {
@@ -108,4 +95,12 @@ class ThemeDaoTest {
 
         assertThat(count).isEqualTo(2);
     }
+
+    @DisplayName("예약이 있는 테마를 삭제하려고 하면 예외를 던진다.")
+    @Test
+    void deleteTheme_whenExistsReservation() {
+        assertThatThrownBy(() -> themeDao.deleteTheme(1L))
+                .isInstanceOf(IllegalRequestArgumentException.class)
+                .hasMessage("해당 테마를 사용하는 예약이 존재합니다.");
+    }
 }
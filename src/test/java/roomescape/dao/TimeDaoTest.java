@@ -1,10 +1,13 @@
 package roomescape.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +20,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 
+import roomescape.domain.AvailableTime;
 import roomescape.domain.ReservationTime;
+import roomescape.domain.exception.IllegalRequestArgumentException;
 
 @JdbcTest
 @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
@@ -51,27 +56,73 @@ class TimeDaoTest {
         assertThat(actual).isEqualTo(expected);
     }
 
-    @DisplayName("해당 날짜에 해당 테마인 시간 목록을 읽을 수 있다.")
+    @DisplayName("해당 날짜에 해당 테마의 예약 여부와 함께 시간 목록을 읽을 수 있다.")
     @Test
-    void readTimesExistsReservation() {
-        List<ReservationTime> actual = timeDao.readTimesExistsReservation("2023-08-05", 1L);
-        List<ReservationTime> expected = List.of(new ReservationTime(1L, LocalTime.of(10, 0)));
+    void readAvailableTimes() {
+        List<AvailableTime> actual = timeDao.readAvailableTimes(LocalDate.of(2023, 8, 5), 1L);
+        List<AvailableTime> expected = List.of(
+                new AvailableTime(new ReservationTime(1L, LocalTime.of(10, 0)), true),
+                new AvailableTime(new ReservationTime(2L, LocalTime.of(11, 0)), false)
+        );
         assertThat(actual).isEqualTo(expected);
     }
 
-    @DisplayName("DB에서 특정 시간을 읽을 수 있다.")
+    @DisplayName("시간이 많아도 한 번의 조회로 두 번 조회한 결과와 같은 예약 여부를 읽을 수 있다.")
     @Test
-    void readTimeById() {
-        Optional<ReservationTime> actual = timeDao.readTimeById(1L);
-        ReservationTime expected = new ReservationTime(1L, LocalTime.of(10, 0));
-        assertThat(actual.get()).isEqualTo(expected);
+    void readAvailableTimes_comparedWithTwoQueries() {
+        LocalDate date = LocalDate.of(2023, 8, 5);
+        for (int minutes = 0; minutes < 120; minutes++) {
+            jdbcTemplate.update("INSERT INTO reservation_time (start_at) VALUES (?)", LocalTime.of(12, 0).plusMinutes(minutes));
+        }
+        for (long timeId = 3; timeId <= 122; timeId += 3) {
+            jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, 1, ?, 1)", date, timeId);
+        }
+
+        List<AvailableTime> twoQueries = readAvailableTimesWithTwoQueries(date, 1L);
+        List<AvailableTime> oneQuery = timeDao.readAvailableTimes(date, 1L);
+
+        assertThat(oneQuery).containsExactlyInAnyOrderElementsOf(twoQueries);
+    }
+
+    private List<AvailableTime> readAvailableTimesWithTwoQueries(LocalDate date, Long themeId) {
+        List<ReservationTime> allTime = timeDao.readTimes();
+        List<ReservationTime> alreadyBookedTime = jdbcTemplate.query(
+                "SELECT id, start_at FROM reservation_time WHERE id IN (SELECT time_id FROM reservation WHERE date = ? AND theme_id = ?)",
+                (resultSet, rowNum) -> new ReservationTime(resultSet.getLong("id"), resultSet.getObject("start_at", LocalTime.class)),
+                date.toString(), themeId);
+        return allTime.stream()
+                .map(time -> new AvailableTime(time, alreadyBookedTime.contains(time)))
+                .toList();
     }
 
-    @DisplayName("DB에서 없는 시간을 조회하려고하면 Optional 값이 넘어온다.")
+    @DisplayName("기간 내 해당 테마의 날짜별 예약된 시간 id를 읽을 수 있다.")
     @Test
-    void readThemeById_throwException() {
-        Optional<ReservationTime> actual = timeDao.readTimeById(3L);
-        assertThat(actual.isEmpty()).isEqualTo(true);
+    void readBookedTimeIds() {
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 1, 1)");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 2, 1)");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-09', 1, 2, 1)");
+
+        Map<LocalDate, Set<Long>> actual = timeDao.readBookedTimeIds(1L, LocalDate.of(2023, 8, 5), LocalDate.of(2023, 8, 8));
+        Map<LocalDate, Set<Long>> expected = Map.of(
+                LocalDate.of(2023, 8, 5), Set.of(1L),
+                LocalDate.of(2023, 8, 6), Set.of(1L, 2L)
+        );
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("해당 날짜의 테마별 예약된 시간 id를 읽을 수 있다.")
+    @Test
+    void readBookedTimeIdsByTheme() {
+        jdbcTemplate.update("INSERT INTO theme (name, description, thumbnail) VALUES ('테마2', '설명2' ,'https://image.jpg')");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-05', 1, 2, 2)");
+        jdbcTemplate.update("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES ('2023-08-06', 1, 1, 2)");
+
+        Map<Long, Set<Long>> actual = timeDao.readBookedTimeIdsByTheme(LocalDate.of(2023, 8, 5));
+        Map<Long, Set<Long>> expected = Map.of(
+                1L, Set.of(1L),
+                2L, Set.of(2L)
+        );
+        assertThat(actual).isEqualTo(expected);
     }
 
     @DisplayName("시간 목록에 해당 시작 시간이 있는지 알 수 있다.")
@@ -101,4 +152,12 @@ class TimeDaoTest {
 
         assertThat(count).isEqualTo(1);
     }
+
+    @DisplayName("예약이 있는 시간을 삭제하려고 하면 예외를 던진다.")
+    @Test
+    void deleteTime_whenExistsReservation() {
+        assertThatThrownBy(() -> timeDao.deleteTime(1L))
+                .isInstanceOf(IllegalRequestArgumentException.class)
+                .hasMessage("해당 시간을 사용하는 예약이 존재합니다.");
+    }
 }
@@ -0,0 +1,155 @@
+package roomescape.dataset;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import roomescape.dao.ThemeDailyCountDao;
+
+public class DatasetGenerator {
+    private static final int BATCH_SIZE = 10_000;
+    private static final LocalTime FIRST_TIME = LocalTime.of(9, 0);
+    private static final long TIME_INTERVAL_MINUTES = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static void main(String[] args) {
+        String url = System.getProperty("dataset.url", "jdbc:h2:file:./build/dataset/roomescape");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        if (!hasSchema(jdbcTemplate)) {
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        }
+
+        DatasetSpec spec = DatasetSpec.from(System.getProperties());
+        long start = System.nanoTime();
+        DatasetSummary summary = new DatasetGenerator(jdbcTemplate).generate(spec);
+        System.out.printf("%s loaded into %s in %dms%n", summary, url, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static boolean hasSchema(JdbcTemplate jdbcTemplate) {
+        String sql = "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = 'reservation'";
+        return jdbcTemplate.queryForObject(sql, Integer.class) > 0;
+    }
+
+    public DatasetSummary generate(DatasetSpec spec) {
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        clear();
+
+        List<Long> memberIds = insertMembers(spec);
+        List<Long> timeIds = insertTimes(spec);
+        List<Long> themeIds = insertThemes(spec);
+        long reservations = insertReservations(spec, random, memberIds, timeIds, themeIds);
+        new ThemeDailyCountDao(jdbcTemplate).rebuildCounts();
+
+        return new DatasetSummary(memberIds.size(), themeIds.size(), timeIds.size(), reservations);
+    }
+
+    private void clear() {
+        jdbcTemplate.update("DELETE FROM theme_daily_count");
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM member");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        jdbcTemplate.update("DELETE FROM theme");
+    }
+
+    private List<Long> insertMembers(DatasetSpec spec) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 1; i <= spec.members(); i++) {
+            batchArgs.add(new Object[]{"사용자" + i, "member" + i + "@roomescape.com", "1111"});
+            flushIfFull("INSERT INTO member (name, email, password) VALUES (?, ?, ?)", batchArgs);
+        }
+        flush("INSERT INTO member (name, email, password) VALUES (?, ?, ?)", batchArgs);
+        return jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class);
+    }
+
+    private List<Long> insertTimes(DatasetSpec spec) {
+        long interval = Math.min(TIME_INTERVAL_MINUTES, DatasetSpec.MAX_TIMES / spec.times());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < spec.times(); i++) {
+            batchArgs.add(new Object[]{FIRST_TIME.plusMinutes(i * interval)});
+        }
+        flush("INSERT INTO reservation_time (start_at) VALUES (?)", batchArgs);
+        return jdbcTemplate.queryForList("SELECT id FROM reservation_time ORDER BY start_at", Long.class);
+    }
+
+    private List<Long> insertThemes(DatasetSpec spec) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 1; i <= spec.themes(); i++) {
+            batchArgs.add(new Object[]{"테마" + i, "설명" + i, "https://image.jpg"});
+        }
+        flush("INSERT INTO theme (name, description, thumbnail) VALUES (?, ?, ?)", batchArgs);
+        return jdbcTemplate.queryForList("SELECT id FROM theme ORDER BY id", Long.class);
+    }
+
+    private long insertReservations(DatasetSpec spec, SplittableRandom random,
+                                    List<Long> memberIds, List<Long> timeIds, List<Long> themeIds) {
+        String sql = "INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, ?, ?, ?)";
+        double[] popularity = popularity(themeIds.size(), spec.popularitySkew());
+        List<Object[]> batchArgs = new ArrayList<>();
+        long count = 0;
+
+        for (int day = 0; day < spec.days(); day++) {
+            LocalDate date = spec.startDate().plusDays(day);
+            double dayFactor = isWeekend(date) ? spec.weekendFactor() : 1.0;
+            for (int theme = 0; theme < themeIds.size(); theme++) {
+                double probability = Math.min(1.0, spec.fillRate() * popularity[theme] * dayFactor);
+                for (Long timeId : timeIds) {
+                    if (random.nextDouble() >= probability) {
+                        continue;
+                    }
+                    Long memberId = memberIds.get(random.nextInt(memberIds.size()));
+                    batchArgs.add(new Object[]{date, memberId, timeId, themeIds.get(theme)});
+                    count++;
+                    flushIfFull(sql, batchArgs);
+                }
+            }
+        }
+        flush(sql, batchArgs);
+        return count;
+    }
+
+    private double[] popularity(int themes, double skew) {
+        double[] weights = new double[themes];
+        double sum = 0;
+        for (int rank = 0; rank < themes; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, skew);
+            sum += weights[rank];
+        }
+        for (int rank = 0; rank < themes; rank++) {
+            weights[rank] = weights[rank] * themes / sum;
+        }
+        return weights;
+    }
+
+    private boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    private void flushIfFull(String sql, List<Object[]> batchArgs) {
+        if (batchArgs.size() >= BATCH_SIZE) {
+            flush(sql, batchArgs);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batchArgs) {
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, batchArgs);
+        batchArgs.clear();
+    }
+}
@@ -0,0 +1,89 @@
+package roomescape.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@JdbcTest
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class DatasetGeneratorTest {
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetGenerator datasetGenerator;
+
+    @Autowired
+    DatasetGeneratorTest(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.datasetGenerator = new DatasetGenerator(jdbcTemplate);
+    }
+
+    @DisplayName("설정한 수만큼 사용자, 테마, 시간을 만들고 기간 안에 예약을 채운다.")
+    @Test
+    void generate() {
+        DatasetSpec spec = DatasetSpec.small(42L);
+
+        DatasetSummary summary = datasetGenerator.generate(spec);
+
+        assertThat(summary.members()).isEqualTo(count("SELECT COUNT(*) FROM member")).isEqualTo(100L);
+        assertThat(summary.themes()).isEqualTo(count("SELECT COUNT(*) FROM theme")).isEqualTo(10L);
+        assertThat(summary.times()).isEqualTo(count("SELECT COUNT(*) FROM reservation_time")).isEqualTo(10L);
+        assertThat(summary.reservations()).isEqualTo(count("SELECT COUNT(*) FROM reservation")).isPositive();
+        assertThat(count("SELECT COALESCE(SUM(count), 0) FROM theme_daily_count")).isEqualTo(summary.reservations());
+        assertThat(count("SELECT COUNT(*) FROM reservation WHERE date < ? OR date > ?", spec.startDate(), spec.endDate()))
+                .isZero();
+    }
+
+    @DisplayName("같은 시드로 만들면 같은 예약이 만들어진다.")
+    @Test
+    void generate_sameSeed() {
+        datasetGenerator.generate(DatasetSpec.small(42L));
+        List<String> first = readReservations();
+
+        datasetGenerator.generate(DatasetSpec.small(42L));
+        List<String> second = readReservations();
+
+        datasetGenerator.generate(DatasetSpec.small(7L));
+        List<String> other = readReservations();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @DisplayName("인기 순위가 높은 테마일수록 예약이 많다.")
+    @Test
+    void generate_skewedPopularity() {
+        datasetGenerator.generate(DatasetSpec.small(42L));
+
+        long mostPopular = count("SELECT COUNT(*) FROM reservation JOIN theme ON reservation.theme_id = theme.id WHERE theme.name = '테마1'");
+        long leastPopular = count("SELECT COUNT(*) FROM reservation JOIN theme ON reservation.theme_id = theme.id WHERE theme.name = '테마10'");
+
+        assertThat(mostPopular).isGreaterThan(leastPopular * 3);
+    }
+
+    private List<String> readReservations() {
+        String sql = """
+                SELECT reservation.date, reservation_time.start_at, theme.name, member.email
+                FROM reservation
+                JOIN reservation_time ON reservation.time_id = reservation_time.id
+                JOIN theme ON reservation.theme_id = theme.id
+                JOIN member ON reservation.member_id = member.id
+                ORDER BY reservation.date, reservation_time.start_at, theme.name
+                """;
+        return jdbcTemplate.query(sql, (resultSet, rowNum) -> String.join(",",
+                resultSet.getString("date"),
+                resultSet.getString("start_at"),
+                resultSet.getString("name"),
+                resultSet.getString("email")));
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,57 @@
+package roomescape.dataset;
+
+import java.time.LocalDate;
+import java.util.Properties;
+
+public record DatasetSpec(long seed,
+                          int members,
+                          int themes,
+                          int times,
+                          LocalDate startDate,
+                          int days,
+                          double fillRate,
+                          double popularitySkew,
+                          double weekendFactor) {
+    public static final int MAX_TIMES = 15 * 60;
+
+    public DatasetSpec {
+        if (members < 1 || themes < 1 || times < 1 || days < 1) {
+            throw new IllegalArgumentException("사용자, 테마, 시간, 기간은 1 이상이어야 합니다.");
+        }
+        if (times > MAX_TIMES) {
+            throw new IllegalArgumentException("시간은 %d개 이하여야 합니다.".formatted(MAX_TIMES));
+        }
+        if (fillRate < 0 || fillRate > 1) {
+            throw new IllegalArgumentException("예약률(%s)은 0 이상 1 이하여야 합니다.".formatted(fillRate));
+        }
+        if (popularitySkew < 0 || weekendFactor < 0) {
+            throw new IllegalArgumentException("인기 편차와 주말 가중치는 0 이상이어야 합니다.");
+        }
+    }
+
+    public static DatasetSpec small(long seed) {
+        return new DatasetSpec(seed, 100, 10, 10, LocalDate.of(2024, 1, 1), 30, 0.5, 1.0, 1.5);
+    }
+
+    public static DatasetSpec large(long seed) {
+        return new DatasetSpec(seed, 100_000, 50, 28, LocalDate.of(2023, 1, 1), 730, 0.6, 1.0, 1.5);
+    }
+
+    public static DatasetSpec from(Properties properties) {
+        DatasetSpec defaults = large(42L);
+        return new DatasetSpec(
+                Long.parseLong(properties.getProperty("dataset.seed", String.valueOf(defaults.seed))),
+                Integer.parseInt(properties.getProperty("dataset.members", String.valueOf(defaults.members))),
+                Integer.parseInt(properties.getProperty("dataset.themes", String.valueOf(defaults.themes))),
+                Integer.parseInt(properties.getProperty("dataset.times", String.valueOf(defaults.times))),
+                LocalDate.parse(properties.getProperty("dataset.start-date", defaults.startDate.toString())),
+                Integer.parseInt(properties.getProperty("dataset.days", String.valueOf(defaults.days))),
+                Double.parseDouble(properties.getProperty("dataset.fill-rate", String.valueOf(defaults.fillRate))),
+                Double.parseDouble(properties.getProperty("dataset.popularity-skew", String.valueOf(defaults.popularitySkew))),
+                Double.parseDouble(properties.getProperty("dataset.weekend-factor", String.valueOf(defaults.weekendFactor))));
+    }
+
+    public LocalDate endDate() {
+        return startDate.plusDays(days - 1L);
+    }
+}
@@ -0,0 +1,4 @@
+package roomescape.dataset;
+
+public record DatasetSummary(long members, long themes, long times, long reservations) {
+}
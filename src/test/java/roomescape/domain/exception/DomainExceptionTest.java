@@ -0,0 +1,25 @@
+package roomescape.domain.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DomainExceptionTest {
+    @DisplayName("도메인 예외는 스택 트레이스를 채우지 않는다.")
+    @Test
+    void fillInStackTrace() {
+        assertAll(
+                () -> assertThat(new IllegalRequestArgumentException("잘못된 요청입니다.").getStackTrace()).isEmpty(),
+                () -> assertThat(new IllegalNullArgumentException().getStackTrace()).isEmpty(),
+                () -> assertThat(new AuthFailException().getStackTrace()).isEmpty()
+        );
+    }
+
+    @DisplayName("스택 트레이스가 없어도 예외 메시지는 유지된다.")
+    @Test
+    void getMessage() {
+        assertThat(new AuthFailException("접근할 수 없는 페이지입니다.").getMessage()).isEqualTo("접근할 수 없는 페이지입니다.");
+    }
+}
@@ -0,0 +1,103 @@
+package roomescape.domain.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import roomescape.domain.Role;
+import roomescape.dto.request.LoginMember;
+
+class VerifiedTokenCacheTest {
+    private final AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.of(2024, 5, 1, 10, 0));
+    private final LoginMember loginMember = new LoginMember(1L, "켬미", "aaa@naver.com", Role.MEMBER, LocalDateTime.of(2024, 5, 1, 10, 0));
+
+    @DisplayName("검증한 토큰의 로그인 정보를 캐시에서 다시 읽고 적중 횟수를 기록한다.")
+    @Test
+    void get() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, now::get);
+
+        cache.get("token");
+        cache.put("token", loginMember, expiration(now.get().plusHours(1)));
+
+        assertAll(
+                () -> assertThat(cache.get("token")).contains(loginMember),
+                () -> assertThat(cache.hitCount()).isEqualTo(1),
+                () -> assertThat(cache.missCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("토큰의 만료 시각이 지나면 캐시에서 읽을 수 없다.")
+    @Test
+    void get_whenExpired() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, now::get);
+        cache.put("token", loginMember, expiration(now.get().plusMinutes(30)));
+
+        now.set(now.get().plusMinutes(30));
+
+        assertAll(
+                () -> assertThat(cache.get("token")).isEmpty(),
+                () -> assertThat(cache.size()).isEqualTo(0)
+        );
+    }
+
+    @DisplayName("캐시 크기는 설정한 최대 크기를 넘지 않는다.")
+    @Test
+    void put_whenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(32, now::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("token" + i, loginMember, expiration(now.get().plusHours(1)));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(32);
+    }
+
+    @DisplayName("최대 크기가 0이면 캐시를 사용하지 않는다.")
+    @Test
+    void disabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0, now::get);
+        cache.put("token", loginMember, expiration(now.get().plusHours(1)));
+
+        assertAll(
+                () -> assertThat(cache.isEnabled()).isFalse(),
+                () -> assertThat(cache.get("token")).isEmpty(),
+                () -> assertThat(cache.missCount()).isEqualTo(0)
+        );
+    }
+
+    @DisplayName("여러 스레드가 동시에 읽고 써도 적중과 실패 횟수가 모두 기록된다.")
+    @Test
+    void get_concurrently() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1_000, now::get);
+        for (int i = 0; i < 100; i++) {
+            cache.put("token" + i, loginMember, expiration(now.get().plusHours(1)));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 10_000; i++) {
+            String token = "token" + (i % 200);
+            executorService.submit(() -> cache.get(token));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(cache.hitCount()).isEqualTo(5_000),
+                () -> assertThat(cache.missCount()).isEqualTo(5_000)
+        );
+    }
+
+    private Date expiration(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
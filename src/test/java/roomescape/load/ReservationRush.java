@@ -0,0 +1,175 @@
+package roomescape.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import roomescape.dto.request.MemberFindRequest;
+
+public class ReservationRush {
+    private static final String AVAILABLE_TIMES = "GET /times/available";
+    private static final String CREATE_RESERVATION = "POST /reservations";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationRush(URI baseUri, JdbcTemplate jdbcTemplate) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .build();
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public RushReport run(List<MemberFindRequest> users, int attemptsPerUser,
+                          LocalDate date, Long themeId, List<Long> timeIds, long seed) throws InterruptedException {
+        List<String> tokens = login(users);
+        Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        LongAdder createdCount = new LongAdder();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(tokens.size());
+
+        long elapsedNanos;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                SplittableRandom random = new SplittableRandom(seed + i);
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int attempt = 0; attempt < attemptsPerUser; attempt++) {
+                        send(AVAILABLE_TIMES, HttpRequest.newBuilder(baseUri.resolve(
+                                        "/times/available?date=%s&themeId=%d".formatted(date, themeId)))
+                                .header("Cookie", "token=" + token)
+                                .GET(), latencies, errors);
+
+                        Long timeId = timeIds.get(random.nextInt(timeIds.size()));
+                        int status = send(CREATE_RESERVATION, HttpRequest.newBuilder(baseUri.resolve("/reservations"))
+                                .header("Cookie", "token=" + token)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"date\":\"%s\",\"timeId\":%d,\"themeId\":%d}"
+                                        .formatted(date, timeId, themeId))), latencies, errors);
+                        if (status == 201) {
+                            createdCount.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException exception) {
+                    errors.computeIfAbsent(exception.getCause().getClass().getSimpleName(), key -> new LongAdder()).increment();
+                }
+            }
+            elapsedNanos = System.nanoTime() - start;
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return RushReport.of(elapsedNanos, toArrays(latencies), toCounts(errors),
+                createdCount.sum(), countBookedSlots(date, themeId, timeIds));
+    }
+
+    private List<String> login(List<MemberFindRequest> users) {
+        List<String> tokens = new ArrayList<>();
+        for (MemberFindRequest user : users) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/login"))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"%s\",\"password\":\"%s\"}"
+                            .formatted(user.email(), user.password())))
+                    .build();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                String cookie = response.headers().firstValue("Set-Cookie")
+                        .orElseThrow(() -> new IllegalStateException("%s 로그인에 실패했습니다.".formatted(user.email())));
+                tokens.add(tokenOf(cookie));
+            } catch (IOException exception) {
+                throw new IllegalStateException("%s 로그인에 실패했습니다.".formatted(user.email()), exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("로그인이 중단되었습니다.", exception);
+            }
+        }
+        return tokens;
+    }
+
+    private String tokenOf(String cookie) {
+        String pair = cookie.split(";")[0];
+        return pair.substring(pair.indexOf('=') + 1);
+    }
+
+    private int send(String endpoint, HttpRequest.Builder builder,
+                     Map<String, List<Long>> latencies, Map<String, LongAdder> errors) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(builder.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+            record(endpoint, System.nanoTime() - start, latencies);
+            if (response.statusCode() >= 400) {
+                errors.computeIfAbsent(endpoint + " " + response.statusCode(), key -> new LongAdder()).increment();
+            }
+            return response.statusCode();
+        } catch (IOException exception) {
+            record(endpoint, System.nanoTime() - start, latencies);
+            errors.computeIfAbsent(endpoint + " " + exception.getClass().getSimpleName(), key -> new LongAdder()).increment();
+            return -1;
+        }
+    }
+
+    private void record(String endpoint, long nanos, Map<String, List<Long>> latencies) {
+        List<Long> values = latencies.computeIfAbsent(endpoint, key -> new ArrayList<>());
+        synchronized (values) {
+            values.add(nanos);
+        }
+    }
+
+    private long countBookedSlots(LocalDate date, Long themeId, List<Long> timeIds) {
+        String sql = "SELECT COUNT(DISTINCT time_id) FROM reservation WHERE date = ? AND theme_id = ? AND time_id = ?";
+        return timeIds.stream()
+                .distinct()
+                .mapToLong(timeId -> jdbcTemplate.queryForObject(sql, Long.class, date, themeId, timeId))
+                .sum();
+    }
+
+    private Map<String, long[]> toArrays(Map<String, List<Long>> latencies) {
+        Map<String, long[]> result = new HashMap<>();
+        latencies.forEach((endpoint, values) -> {
+            synchronized (values) {
+                result.put(endpoint, values.stream().mapToLong(Long::longValue).toArray());
+            }
+        });
+        return result;
+    }
+
+    private Map<String, Long> toCounts(Map<String, LongAdder> errors) {
+        Map<String, Long> result = new HashMap<>();
+        errors.forEach((key, count) -> result.put(key, count.sum()));
+        return result;
+    }
+}
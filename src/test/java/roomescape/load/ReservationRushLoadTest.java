@@ -0,0 +1,73 @@
+package roomescape.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import roomescape.dto.request.MemberFindRequest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationRushLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(ReservationRushLoadTest.class);
+    private static final int USERS = Integer.getInteger("rush.users", 50);
+    private static final int ATTEMPTS_PER_USER = Integer.getInteger("rush.attempts", 4);
+    private static final int SLOTS = Integer.getInteger("rush.slots", 3);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private List<MemberFindRequest> users;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> members = new ArrayList<>();
+        users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            members.add(new Object[]{"사용자" + i, "rush" + i + "@naver.com", "1111"});
+            users.add(new MemberFindRequest("rush" + i + "@naver.com", "1111"));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member(name, email, password) VALUES (?, ?, ?)", members);
+
+        List<Object[]> times = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            times.add(new Object[]{"%02d:00".formatted(10 + i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_time (start_at) VALUES (?)", times);
+        jdbcTemplate.update("INSERT INTO theme (name, description, thumbnail) VALUES ('신규 테마', '오픈 예정', 'https://image.jpg')");
+    }
+
+    @DisplayName("여러 사용자가 같은 시간대에 동시에 예약해도 한 시간대에는 한 예약만 만들어진다.")
+    @Test
+    void reservationRush() throws InterruptedException {
+        LocalDate date = LocalDate.now().plusDays(1);
+        List<Long> timeIds = IntStream.rangeClosed(1, SLOTS)
+                .mapToObj(Long::valueOf)
+                .toList();
+
+        RushReport report = new ReservationRush(URI.create("http://localhost:" + port), jdbcTemplate)
+                .run(users, ATTEMPTS_PER_USER, date, 1L, timeIds, 42L);
+        log.info("reservation rush report\n{}", report.format());
+
+        assertThat(report.requestCount()).isEqualTo(2L * USERS * ATTEMPTS_PER_USER);
+        assertThat(report.createdCount()).isEqualTo(SLOTS);
+        assertThat(report.doubleBookingCount()).isZero();
+        assertThat(report.errors()).allSatisfy((error, count) -> assertThat(error).endsWith(" 400"));
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public record RushReport(long elapsedNanos,
+                         Map<String, long[]> latencies,
+                         Map<String, Long> errors,
+                         long createdCount,
+                         long bookedSlotCount) {
+    public static RushReport of(long elapsedNanos, Map<String, long[]> latencies, Map<String, Long> errors,
+                                long createdCount, long bookedSlotCount) {
+        Map<String, long[]> sortedLatencies = new TreeMap<>();
+        latencies.forEach((endpoint, values) -> {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            sortedLatencies.put(endpoint, sorted);
+        });
+        return new RushReport(elapsedNanos, sortedLatencies, new TreeMap<>(errors), createdCount, bookedSlotCount);
+    }
+
+    public long requestCount() {
+        return latencies.values().stream()
+                .mapToLong(values -> values.length)
+                .sum();
+    }
+
+    public double throughput() {
+        return requestCount() * 1_000_000_000.0 / Math.max(elapsedNanos, 1);
+    }
+
+    public long percentileMicros(String endpoint, double percentile) {
+        long[] values = latencies.getOrDefault(endpoint, new long[0]);
+        if (values.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * values.length) - 1;
+        return values[Math.max(index, 0)] / 1_000;
+    }
+
+    public long errorCount() {
+        return errors.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public long doubleBookingCount() {
+        return Math.max(createdCount - bookedSlotCount, 0);
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append("requests: %d in %dms (%.1f req/s)%n".formatted(
+                requestCount(), elapsedNanos / 1_000_000, throughput()));
+        latencies.keySet().forEach(endpoint -> report.append("%s - count: %d, p50: %dus, p99: %dus, p999: %dus%n".formatted(
+                endpoint,
+                latencies.get(endpoint).length,
+                percentileMicros(endpoint, 0.5),
+                percentileMicros(endpoint, 0.99),
+                percentileMicros(endpoint, 0.999))));
+        report.append("errors: ").append(errors.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", ", "{", "}"))).append(System.lineSeparator());
+        report.append("created: %d, booked slots: %d, double bookings: %d".formatted(
+                createdCount, bookedSlotCount, doubleBookingCount()));
+        return report.toString();
+    }
+}
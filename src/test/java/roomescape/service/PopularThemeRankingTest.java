@@ -0,0 +1,84 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import roomescape.dao.ThemeDao;
+import roomescape.domain.Theme;
+import roomescape.dto.response.ThemeResponse;
+
+@ExtendWith(MockitoExtension.class)
+class PopularThemeRankingTest {
+    private final Theme theme = new Theme(1L, "테마1", "설명1", "https://image.jpg");
+    private final AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.of(2024, 5, 8, 23, 59));
+    @Mock
+    ThemeDao themeDao;
+    private PopularThemeRanking popularThemeRanking;
+
+    @BeforeEach
+    void setUp() {
+        popularThemeRanking = new PopularThemeRanking(now::get, themeDao);
+        when(themeDao.readThemesRankingOfReservation(any(String.class), any(String.class)))
+                .thenReturn(List.of(theme));
+    }
+
+    @DisplayName("같은 날에는 한 번 계산한 인기 테마 목록을 다시 계산하지 않는다.")
+    @Test
+    void readPopularThemes_sameDay() {
+        List<ThemeResponse> first = popularThemeRanking.readPopularThemes();
+        List<ThemeResponse> second = popularThemeRanking.readPopularThemes();
+
+        assertThat(second).isEqualTo(first).containsExactly(ThemeResponse.from(theme));
+        verify(themeDao, times(1)).readThemesRankingOfReservation("2024-05-01", "2024-05-07");
+    }
+
+    @DisplayName("날짜가 바뀌면 새 기간으로 인기 테마 목록을 다시 계산한다.")
+    @Test
+    void readPopularThemes_afterMidnight() {
+        popularThemeRanking.readPopularThemes();
+
+        now.set(LocalDateTime.of(2024, 5, 9, 0, 0));
+        popularThemeRanking.readPopularThemes();
+
+        verify(themeDao).readThemesRankingOfReservation("2024-05-01", "2024-05-07");
+        verify(themeDao).readThemesRankingOfReservation("2024-05-02", "2024-05-08");
+    }
+
+    @DisplayName("집계 기간 안의 예약이 바뀌면 인기 테마 목록을 다시 계산한다.")
+    @Test
+    void invalidate_insideWindow() {
+        popularThemeRanking.readPopularThemes();
+
+        popularThemeRanking.invalidate(LocalDate.of(2024, 5, 3));
+        popularThemeRanking.readPopularThemes();
+
+        verify(themeDao, times(2)).readThemesRankingOfReservation("2024-05-01", "2024-05-07");
+    }
+
+    @DisplayName("집계 기간 밖의 예약이 바뀌면 인기 테마 목록을 다시 계산하지 않는다.")
+    @Test
+    void invalidate_outsideWindow() {
+        popularThemeRanking.readPopularThemes();
+
+        popularThemeRanking.invalidate(LocalDate.of(2024, 5, 8));
+        popularThemeRanking.invalidate(LocalDate.of(2024, 4, 30));
+        popularThemeRanking.readPopularThemes();
+
+        verify(themeDao, times(1)).readThemesRankingOfReservation("2024-05-01", "2024-05-07");
+    }
+}
@@ -3,15 +3,22 @@ package roomescape.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,19 +26,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import roomescape.dao.MemberDao;
 import roomescape.dao.ReservationDao;
-import roomescape.dao.ThemeDao;
-import roomescape.dao.TimeDao;
+import roomescape.dao.ThemeDailyCountDao;
 import roomescape.domain.Member;
 import roomescape.domain.Reservation;
+import roomescape.domain.ReservationCandidate;
+import roomescape.domain.ReservationSummary;
 import roomescape.domain.ReservationTime;
 import roomescape.domain.Role;
 import roomescape.domain.Theme;
 import roomescape.domain.exception.IllegalRequestArgumentException;
 import roomescape.dto.MemberModel;
 import roomescape.dto.request.ReservationAdminCreateRequest;
+import roomescape.dto.request.ReservationPageRequest;
+import roomescape.dto.response.NormalizedReservationListResponse;
+import roomescape.dto.response.NormalizedReservationResponse;
+import roomescape.dto.response.ReservationPageResponse;
 import roomescape.dto.response.ReservationResponse;
+import roomescape.dto.response.ReservationSummaryPageResponse;
+import roomescape.dto.response.ReservationSummaryResponse;
 import roomescape.dto.response.ThemeResponse;
 import roomescape.dto.response.TimeResponse;
 
@@ -42,26 +55,112 @@ class ReservationServiceTest {
     private final Theme theme = new Theme(1L, "테마1", "설명1", "https://image.jpg");
     private final Member member = new Member(1L, "켬미", "aaa@naver.com", "1111", Role.MEMBER);
     @Mock
-    MemberDao memberDao;
-    @Mock
-    TimeDao timeDao;
+    ReservationDao reservationDao;
     @Mock
-    ThemeDao themeDao;
+    ThemeDailyCountDao themeDailyCountDao;
     @Mock
-    ReservationDao reservationDao;
+    PopularThemeRanking popularThemeRanking;
 
     @DisplayName("예약 정보를 읽을 수 있다.")
     @Test
     void readReservations() {
-        ReservationService service = new ReservationService(null, reservationDao, memberDao, timeDao, themeDao);
+        ReservationService service = new ReservationService(null, reservationDao, themeDailyCountDao, popularThemeRanking);
 
         List<Reservation> reservations = List.of(new Reservation(1L, date, member, time, theme));
-        when(reservationDao.readReservations()).thenReturn(reservations);
+        when(reservationDao.readReservations(any(ReservationPageRequest.class), anyInt())).thenReturn(reservations);
 
-        List<ReservationResponse> expected = List.of(new ReservationResponse(
+        ReservationPageResponse expected = new ReservationPageResponse(List.of(new ReservationResponse(
                 1L, date, MemberModel.from(member), TimeResponse.from(time), ThemeResponse.from(theme)
-        ));
-        assertThat(service.readReservations()).isEqualTo(expected);
+        )), null);
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, 10);
+        assertThat(service.readReservations(request)).isEqualTo(expected);
+    }
+
+    @DisplayName("페이지 크기보다 예약이 많으면 마지막 예약을 다음 커서로 반환한다.")
+    @Test
+    void readReservations_whenHasNextPage() {
+        ReservationService service = new ReservationService(null, reservationDao, themeDailyCountDao, popularThemeRanking);
+
+        List<Reservation> reservations = List.of(
+                new Reservation(1L, date, member, time, theme),
+                new Reservation(2L, date.plusDays(1), member, time, theme));
+        when(reservationDao.readReservations(any(ReservationPageRequest.class), anyInt())).thenReturn(reservations);
+
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, 1);
+        ReservationPageResponse actual = service.readReservations(request);
+
+        assertAll(
+                () -> assertThat(actual.reservations()).hasSize(1),
+                () -> assertThat(actual.nextCursor()).isEqualTo("2023-08-05_1_1")
+        );
+    }
+
+    @DisplayName("예약 요약 목록도 페이지 크기보다 예약이 많으면 마지막 예약을 다음 커서로 반환한다.")
+    @Test
+    void readReservationSummaries_whenHasNextPage() {
+        ReservationService service = new ReservationService(null, reservationDao, themeDailyCountDao, popularThemeRanking);
+
+        List<ReservationSummary> reservations = List.of(
+                new ReservationSummary(1L, date, 1L, "켬미", 1L, time.getStartAt(), 1L, "테마1"),
+                new ReservationSummary(2L, date.plusDays(1), 1L, "켬미", 1L, time.getStartAt(), 1L, "테마1"));
+        when(reservationDao.readReservationSummaries(any(ReservationPageRequest.class), anyInt())).thenReturn(reservations);
+
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, 1);
+        ReservationSummaryPageResponse actual = service.readReservationSummaries(request);
+
+        assertAll(
+                () -> assertThat(actual.reservations()).extracting(ReservationSummaryResponse::themeName)
+                        .containsExactly("테마1"),
+                () -> assertThat(actual.nextCursor()).isEqualTo("2023-08-05_1_1")
+        );
+    }
+
+    @DisplayName("예약 목록을 흘려 보낼 때 페이지 크기만큼만 넘기고 다음 페이지가 있으면 커서를 돌려준다.")
+    @Test
+    void readReservations_streamed() {
+        ReservationService service = new ReservationService(null, reservationDao, themeDailyCountDao, popularThemeRanking);
+
+        doAnswer(invocation -> {
+            Consumer<Reservation> consumer = invocation.getArgument(2);
+            consumer.accept(new Reservation(1L, date, member, time, theme));
+            consumer.accept(new Reservation(2L, date.plusDays(1), member, time, theme));
+            return null;
+        }).when(reservationDao).readReservations(any(ReservationPageRequest.class), anyInt(), any());
+
+        List<ReservationResponse> written = new ArrayList<>();
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, 1);
+        String nextCursor = service.readReservations(request, written::add);
+
+        assertAll(
+                () -> assertThat(written).extracting(ReservationResponse::id).containsExactly(1L),
+                () -> assertThat(nextCursor).isEqualTo("2023-08-05_1_1")
+        );
+    }
+
+    @DisplayName("정규화된 예약 목록은 예약마다 id만 담고 테마, 시간, 사용자는 한 번씩만 담는다.")
+    @Test
+    void readNormalizedReservations() {
+        ReservationService service = new ReservationService(null, reservationDao, themeDailyCountDao, popularThemeRanking);
+
+        ReservationTime otherTime = new ReservationTime(2L, LocalTime.of(11, 0));
+        List<Reservation> reservations = List.of(
+                new Reservation(1L, date, member, time, theme),
+                new Reservation(2L, date, member, otherTime, theme),
+                new Reservation(3L, date.plusDays(1), member, time, theme));
+        when(reservationDao.readReservations(any(ReservationPageRequest.class), anyInt())).thenReturn(reservations);
+
+        ReservationPageRequest request = new ReservationPageRequest(null, null, null, null, 2);
+        NormalizedReservationListResponse actual = service.readNormalizedReservations(request);
+
+        assertAll(
+                () -> assertThat(actual.reservations()).containsExactly(
+                        new NormalizedReservationResponse(1L, date, 1L, 1L, 1L),
+                        new NormalizedReservationResponse(2L, date, 1L, 2L, 1L)),
+                () -> assertThat(actual.members()).containsOnlyKeys(1L).containsValue(MemberModel.from(member)),
+                () -> assertThat(actual.times()).containsOnlyKeys(1L, 2L),
+                () -> assertThat(actual.themes()).containsOnlyKeys(1L).containsValue(ThemeResponse.from(theme)),
+                () -> assertThat(actual.nextCursor()).isEqualTo("2023-08-05_2_2")
+        );
     }
 
     @DisplayName("예약 정보를 추가할 수 있다.")
@@ -69,26 +168,21 @@ class ReservationServiceTest {
     void createReservation() {
         ReservationService service = new ReservationService(
                 () -> LocalDateTime.of(2023, 8, 5, 9, 59),
-                reservationDao, memberDao, timeDao, themeDao);
+                reservationDao, themeDailyCountDao, popularThemeRanking);
         Reservation reservation = new Reservation(1L, date, member, time, theme);
 
         lenient().when(reservationDao.createReservation(any(Reservation.class)))
                 .thenReturn(reservation);
-        lenient().when(reservationDao.existsReservationByDateAndTimeIdAndThemeId(any(LocalDate.class), any(Long.class), any(Long.class)))
-                .thenReturn(false);
-        lenient().when(memberDao.readMemberById(any(Long.class)))
-                .thenReturn(Optional.of(member));
-        lenient().when(timeDao.readTimeById(any(Long.class)))
-                .thenReturn(Optional.of(time));
-        lenient().when(themeDao.readThemeById(any(Long.class)))
-                .thenReturn(Optional.of(theme));
-
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(time, theme, member, false));
 
         ReservationAdminCreateRequest request =
                 new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
 
         assertThatCode(() -> service.createReservation(request))
                 .doesNotThrowAnyException();
+        verify(themeDailyCountDao).increaseCount(1L, date);
+        verify(popularThemeRanking).invalidate(date);
     }
 
     @DisplayName("예약 시간 기존 시간보다 이전이면 예외를 던진다.")
@@ -96,21 +190,14 @@ class ReservationServiceTest {
     void createReservation_whenReservationDateTimeBeforeCurrentTime() {
         ReservationService service = new ReservationService(
                 () -> LocalDateTime.of(2023, 8, 5, 10, 1),
-                reservationDao, memberDao, timeDao, themeDao);
+                reservationDao, themeDailyCountDao, popularThemeRanking);
 
         Reservation reservation = new Reservation(1L, date, member, time, theme);
 
         lenient().when(reservationDao.createReservation(any(Reservation.class)))
                 .thenReturn(reservation);
-        lenient().when(reservationDao.existsReservationByDateAndTimeIdAndThemeId(any(LocalDate.class), any(Long.class), any(Long.class)))
-                .thenReturn(false);
-        lenient().when(memberDao.readMemberById(any(Long.class)))
-                .thenReturn(Optional.of(member));
-        lenient().when(timeDao.readTimeById(any(Long.class)))
-                .thenReturn(Optional.of(time));
-        lenient().when(themeDao.readThemeById(any(Long.class)))
-                .thenReturn(Optional.of(theme));
-
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(time, theme, member, false));
 
         ReservationAdminCreateRequest request =
                 new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
@@ -125,16 +212,12 @@ class ReservationServiceTest {
     void createReservation_whenAlreadyBookedReservation() {
         ReservationService service = new ReservationService(
                 () -> LocalDateTime.of(2023, 8, 5, 9, 59),
-                reservationDao, memberDao, timeDao, themeDao);
+                reservationDao, themeDailyCountDao, popularThemeRanking);
 
-        lenient().when(reservationDao.existsReservationByDateAndTimeIdAndThemeId(any(LocalDate.class), any(Long.class), any(Long.class)))
-                .thenReturn(true);
-        lenient().when(memberDao.readMemberById(any(Long.class)))
-                .thenReturn(Optional.of(member));
-        lenient().when(timeDao.readTimeById(any(Long.class)))
-                .thenReturn(Optional.of(time));
-        lenient().when(themeDao.readThemeById(any(Long.class)))
-                .thenReturn(Optional.of(theme));
+        lenient().when(reservationDao.createReservation(any(Reservation.class)))
+                .thenThrow(new IllegalRequestArgumentException("해당 시간대 해당 테마 예약은 이미 존재합니다."));
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(time, theme, member, false));
 
         ReservationAdminCreateRequest request =
                 new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
@@ -144,21 +227,36 @@ class ReservationServiceTest {
                 .hasMessage("해당 시간대 해당 테마 예약은 이미 존재합니다.");
     }
 
+    @DisplayName("검증 조회에서 이미 예약된 시간대로 확인되면 예약을 추가하지 않고 예외를 던진다.")
+    @Test
+    void createReservation_whenCandidateAlreadyBooked() {
+        ReservationService service = new ReservationService(
+                () -> LocalDateTime.of(2023, 8, 5, 9, 59),
+                reservationDao, themeDailyCountDao, popularThemeRanking);
+
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(time, theme, member, true));
+
+        ReservationAdminCreateRequest request =
+                new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
+
+        assertAll(
+                () -> assertThatThrownBy(() -> service.createReservation(request))
+                        .isInstanceOf(IllegalRequestArgumentException.class)
+                        .hasMessage("해당 시간대 해당 테마 예약은 이미 존재합니다."),
+                () -> verify(reservationDao, never()).createReservation(any(Reservation.class))
+        );
+    }
+
     @DisplayName("없는 사용자인 경우 예외를 던진다.")
     @Test
     void createReservation_whenNotExistsMember() {
         ReservationService service = new ReservationService(
                 () -> LocalDateTime.of(2023, 8, 5, 9, 59),
-                reservationDao, memberDao, timeDao, themeDao);
+                reservationDao, themeDailyCountDao, popularThemeRanking);
 
-        lenient().when(reservationDao.existsReservationByDateAndTimeIdAndThemeId(any(LocalDate.class), any(Long.class), any(Long.class)))
-                .thenReturn(false);
-        lenient().when(memberDao.readMemberById(any(Long.class)))
-                .thenReturn(Optional.empty());
-        lenient().when(timeDao.readTimeById(any(Long.class)))
-                .thenReturn(Optional.of(time));
-        lenient().when(themeDao.readThemeById(any(Long.class)))
-                .thenReturn(Optional.of(theme));
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(time, theme, null, false));
 
         ReservationAdminCreateRequest request =
                 new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
@@ -173,16 +271,10 @@ class ReservationServiceTest {
     void createReservation_whenNotExistsTime() {
         ReservationService service = new ReservationService(
                 () -> LocalDateTime.of(2023, 8, 5, 9, 59),
-                reservationDao, memberDao, timeDao, themeDao);
+                reservationDao, themeDailyCountDao, popularThemeRanking);
 
-        lenient().when(reservationDao.existsReservationByDateAndTimeIdAndThemeId(any(LocalDate.class), any(Long.class), any(Long.class)))
-                .thenReturn(false);
-        lenient().when(memberDao.readMemberById(any(Long.class)))
-                .thenReturn(Optional.of(member));
-        lenient().when(timeDao.readTimeById(any(Long.class)))
-                .thenReturn(Optional.empty());
-        lenient().when(themeDao.readThemeById(any(Long.class)))
-                .thenReturn(Optional.of(theme));
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(null, theme, member, false));
 
         ReservationAdminCreateRequest request =
                 new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
@@ -197,16 +289,10 @@ class ReservationServiceTest {
     void createReservation_whenNotExistsTheme() {
         ReservationService service = new ReservationService(
                 () -> LocalDateTime.of(2023, 8, 5, 9, 59),
-                reservationDao, memberDao, timeDao, themeDao);
+                reservationDao, themeDailyCountDao, popularThemeRanking);
 
-        lenient().when(reservationDao.existsReservationByDateAndTimeIdAndThemeId(any(LocalDate.class), any(Long.class), any(Long.class)))
-                .thenReturn(false);
-        lenient().when(memberDao.readMemberById(any(Long.class)))
-                .thenReturn(Optional.of(member));
-        lenient().when(timeDao.readTimeById(any(Long.class)))
-                .thenReturn(Optional.of(time));
-        lenient().when(themeDao.readThemeById(any(Long.class)))
-                .thenReturn(Optional.empty());
+        lenient().when(reservationDao.readReservationCandidate(any(LocalDate.class), any(Long.class), any(Long.class), any(Long.class)))
+                .thenReturn(new ReservationCandidate(time, null, member, false));
 
         ReservationAdminCreateRequest request =
                 new ReservationAdminCreateRequest(date, 1L, 1L, 1L);
@@ -219,9 +305,12 @@ class ReservationServiceTest {
     @DisplayName("예약을 삭제할 수 있다.")
     @Test
     void deleteReservation() {
-        ReservationService service = new ReservationService(null, reservationDao, memberDao, timeDao, themeDao);
+        ReservationService service = new ReservationService(null, reservationDao, themeDailyCountDao, popularThemeRanking);
+        when(reservationDao.readReservationDateById(1L)).thenReturn(Optional.of(date));
+
         assertThatCode(() -> service.deleteReservation(1L))
                 .doesNotThrowAnyException();
-        ;
+        verify(themeDailyCountDao).decreaseCountByReservationId(1L);
+        verify(popularThemeRanking).invalidate(date);
     }
 }
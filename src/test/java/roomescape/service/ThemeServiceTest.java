@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 
@@ -15,7 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import roomescape.dao.ReservationDao;
+import roomescape.dao.ThemeDailyCountDao;
 import roomescape.dao.ThemeDao;
 import roomescape.domain.Theme;
 import roomescape.domain.exception.IllegalRequestArgumentException;
@@ -28,7 +30,9 @@ class ThemeServiceTest {
     @Mock
     ThemeDao themeDao;
     @Mock
-    ReservationDao reservationDao;
+    ThemeDailyCountDao themeDailyCountDao;
+    @Mock
+    PopularThemeRanking popularThemeRanking;
     @InjectMocks
     ThemeService themeService;
 
@@ -46,11 +50,9 @@ class ThemeServiceTest {
     @DisplayName("인기 테마 목록을 랭킹 순서 대로 읽을 수 있다.")
     @Test
     void readPopularThemes() {
-        List<Theme> times = List.of(theme);
-
-        lenient().when(themeDao.readThemesRankingOfReservation(any(String.class), any(String.class))).thenReturn(times);
-
         List<ThemeResponse> expected = List.of(ThemeResponse.from(theme));
+        lenient().when(popularThemeRanking.readPopularThemes()).thenReturn(expected);
+
         assertThat(themeService.readPopularThemes()).isEqualTo(expected);
     }
 
@@ -67,9 +69,6 @@ class ThemeServiceTest {
     @DisplayName("테마를 삭제할 수 있다.")
     @Test
     void deleteTime() {
-        lenient().when(reservationDao.existsReservationByThemeId(any(Long.class)))
-                .thenReturn(false);
-
         assertThatCode(() -> themeService.deleteTheme(1L))
                 .doesNotThrowAnyException();
     }
@@ -77,11 +76,20 @@ class ThemeServiceTest {
     @DisplayName("예약이 있는 시간인 경우, 삭제하려고 하면 예외를 던진다.")
     @Test
     void deleteTime_whenExistsReservation() {
-        lenient().when(reservationDao.existsReservationByThemeId(any(Long.class)))
-                .thenReturn(true);
+        doThrow(new IllegalRequestArgumentException("해당 테마를 사용하는 예약이 존재합니다."))
+                .when(themeDao).deleteTheme(1L);
 
         assertThatThrownBy(() -> themeService.deleteTheme(1L))
                 .isInstanceOf(IllegalRequestArgumentException.class)
                 .hasMessage("해당 테마를 사용하는 예약이 존재합니다.");
     }
+
+    @DisplayName("인기 테마 집계를 예약 테이블로부터 다시 계산할 수 있다.")
+    @Test
+    void rebuildThemeDailyCounts() {
+        themeService.rebuildThemeDailyCounts();
+
+        verify(themeDailyCountDao).rebuildCounts();
+        verify(popularThemeRanking).invalidateAll();
+    }
 }
@@ -4,10 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,12 +20,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import roomescape.dao.ReservationDao;
+import roomescape.dao.ThemeDao;
 import roomescape.dao.TimeDao;
+import roomescape.domain.AvailableTime;
 import roomescape.domain.ReservationTime;
+import roomescape.domain.Theme;
 import roomescape.domain.exception.IllegalRequestArgumentException;
 import roomescape.dto.request.TimeCreateRequest;
+import roomescape.dto.response.AvailabilityMatrixResponse;
+import roomescape.dto.response.AvailableDateResponse;
 import roomescape.dto.response.AvailableTimeResponse;
+import roomescape.dto.response.ThemeAvailabilityResponse;
 import roomescape.dto.response.TimeResponse;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +40,7 @@ class TimeServiceTest {
     @Mock
     TimeDao timeDao;
     @Mock
-    ReservationDao reservationDao;
+    ThemeDao themeDao;
     @InjectMocks
     TimeService timeService;
 
@@ -47,17 +56,62 @@ class TimeServiceTest {
     @DisplayName("사용 가능한 시간 목록을 읽을 수 있다.")
     @Test
     void readAvailableTimes() {
-        List<ReservationTime> allTimes = List.of(time, time2);
-        List<ReservationTime> times = List.of(time);
+        List<AvailableTime> availableTimes = List.of(new AvailableTime(time, true), new AvailableTime(time2, false));
 
-        lenient().when(timeDao.readTimes()).thenReturn(allTimes);
-        lenient().when(timeDao.readTimesExistsReservation(any(String.class), any(Long.class))).thenReturn(times);
+        lenient().when(timeDao.readAvailableTimes(any(LocalDate.class), any(Long.class))).thenReturn(availableTimes);
 
         List<AvailableTimeResponse> expected = List.of(
                 AvailableTimeResponse.of(time, true),
                 AvailableTimeResponse.of(time2, false)
         );
-        assertThat(timeService.readAvailableTimes("2024-05-02", 1L)).isEqualTo(expected);
+        assertThat(timeService.readAvailableTimes(LocalDate.of(2024, 5, 2), 1L)).isEqualTo(expected);
+    }
+
+    @DisplayName("기간 내 날짜별 예약 가능한 시간 목록을 읽을 수 있다.")
+    @Test
+    void readAvailableDates() {
+        LocalDate from = LocalDate.of(2024, 5, 2);
+        LocalDate to = LocalDate.of(2024, 5, 3);
+        lenient().when(timeDao.readTimes()).thenReturn(List.of(time, time2));
+        lenient().when(timeDao.readBookedTimeIds(any(Long.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Map.of(from, Set.of(1L)));
+
+        List<AvailableDateResponse> expected = List.of(
+                new AvailableDateResponse(from, List.of(2L)),
+                new AvailableDateResponse(to, List.of(1L, 2L))
+        );
+        assertThat(timeService.readAvailableDates(1L, from, to)).isEqualTo(expected);
+    }
+
+    @DisplayName("조회 기간이 최대 기간을 넘으면 예외를 던진다.")
+    @Test
+    void readAvailableDates_whenRangeTooLong() {
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 7, 1);
+
+        assertThatThrownBy(() -> timeService.readAvailableDates(1L, from, to))
+                .isInstanceOf(IllegalRequestArgumentException.class)
+                .hasMessage("조회 기간은 최대 31일입니다.");
+    }
+
+    @DisplayName("해당 날짜의 테마별 예약된 시간을 비트셋으로 읽을 수 있다.")
+    @Test
+    void readAvailabilityMatrix() {
+        LocalDate date = LocalDate.of(2024, 5, 2);
+        Theme theme = new Theme(1L, "테마1", "설명1", "https://image.jpg");
+        Theme theme2 = new Theme(2L, "테마2", "설명2", "https://image.jpg");
+        lenient().when(themeDao.readThemes()).thenReturn(List.of(theme, theme2));
+        lenient().when(timeDao.readTimes()).thenReturn(List.of(time, time2));
+        lenient().when(timeDao.readBookedTimeIdsByTheme(any(LocalDate.class)))
+                .thenReturn(Map.of(1L, Set.of(2L)));
+
+        AvailabilityMatrixResponse actual = timeService.readAvailabilityMatrix(date);
+
+        List<ThemeAvailabilityResponse> expected = List.of(
+                new ThemeAvailabilityResponse(1L, "테마1", "Ag=="),
+                new ThemeAvailabilityResponse(2L, "테마2", "")
+        );
+        assertThat(actual.themes()).isEqualTo(expected);
     }
 
     @DisplayName("시간을 추가할 수 있다.")
@@ -73,9 +127,6 @@ class TimeServiceTest {
     @DisplayName("시간을 삭제할 수 있다.")
     @Test
     void deleteTime() {
-        lenient().when(reservationDao.existsReservationByTimeId(any(Long.class)))
-                .thenReturn(false);
-
         assertThatCode(() -> timeService.deleteTime(1L))
                 .doesNotThrowAnyException();
     }
@@ -83,8 +134,8 @@ class TimeServiceTest {
     @DisplayName("예약이 있는 시간인 경우, 삭제하려고 하면 예외를 던진다.")
     @Test
     void deleteTime_whenExistsReservation() {
-        lenient().when(reservationDao.existsReservationByTimeId(any(Long.class)))
-                .thenReturn(true);
+        doThrow(new IllegalRequestArgumentException("해당 시간을 사용하는 예약이 존재합니다."))
+                .when(timeDao).deleteTime(1L);
 
         assertThatThrownBy(() -> timeService.deleteTime(1L))
                 .isInstanceOf(IllegalRequestArgumentException.class)
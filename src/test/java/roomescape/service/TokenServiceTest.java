@@ -0,0 +1,88 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import roomescape.domain.Role;
+import roomescape.domain.exception.AuthFailException;
+import roomescape.domain.infrastructure.JwtTokenProvider;
+import roomescape.dto.request.LoginMember;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+    private final LoginMember loginMember =
+            new LoginMember(1L, "켬미", "aaa@naver.com", Role.ADMIN, LocalDateTime.of(2024, 5, 1, 10, 0));
+    @Mock
+    JwtTokenProvider jwtTokenProvider;
+
+    @DisplayName("한 요청 안에서는 토큰을 한 번만 파싱하고 같은 로그인 정보를 재사용한다.")
+    @Test
+    void findLoginMember_parsesOncePerRequest() {
+        TokenService tokenService = new TokenService(jwtTokenProvider, LocalDateTime::now, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("token", "access-token"));
+        when(jwtTokenProvider.parseToken("access-token")).thenReturn(loginMember);
+
+        LoginMember first = tokenService.findLoginMember(request);
+        LoginMember second = tokenService.findLoginMember(request);
+
+        assertThat(second).isSameAs(first).isEqualTo(loginMember);
+        verify(jwtTokenProvider, times(1)).parseToken("access-token");
+    }
+
+    @DisplayName("토큰 쿠키가 없으면 예외를 던진다.")
+    @Test
+    void findLoginMember_whenTokenNotExists() {
+        TokenService tokenService = new TokenService(jwtTokenProvider, LocalDateTime::now, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertThatThrownBy(() -> tokenService.findLoginMember(request))
+                .isInstanceOf(AuthFailException.class)
+                .hasMessage("로그인 정보가 없습니다.");
+    }
+
+    @DisplayName("신선도 기준이 없으면 토큰의 로그인 정보를 그대로 사용할 수 있다.")
+    @Test
+    void isFresh_whenFreshnessDisabled() {
+        TokenService tokenService = new TokenService(jwtTokenProvider, () -> LocalDateTime.of(2024, 5, 2, 10, 0), 0);
+
+        assertThat(tokenService.isFresh(loginMember)).isTrue();
+    }
+
+    @DisplayName("토큰이 신선도 기준보다 오래되면 로그인 정보를 다시 읽어야 한다.")
+    @ParameterizedTest
+    @CsvSource(value = {"10:04:59, true", "10:05:00, false"})
+    void isFresh(LocalTime currentTime, boolean expected) {
+        TokenService tokenService = new TokenService(
+                jwtTokenProvider, () -> LocalDateTime.of(LocalDate.of(2024, 5, 1), currentTime), 300_000);
+
+        assertThat(tokenService.isFresh(loginMember)).isEqualTo(expected);
+    }
+
+    @DisplayName("이메일 정보가 없는 이전 토큰은 로그인 정보를 다시 읽어야 한다.")
+    @Test
+    void isFresh_whenEmailNotExists() {
+        TokenService tokenService = new TokenService(jwtTokenProvider, LocalDateTime::now, 0);
+        LoginMember legacyMember = new LoginMember(1L, "켬미", null, Role.ADMIN, null);
+
+        assertThat(tokenService.isFresh(legacyMember)).isFalse();
+    }
+}
@@ -1,3 +1,4 @@
+DELETE FROM theme_daily_count;
 DELETE FROM reservation;
 DELETE FROM member;
 DELETE FROM reservation_time;